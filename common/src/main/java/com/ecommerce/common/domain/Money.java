@@ -0,0 +1,121 @@
+package com.ecommerce.common.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+/**
+ * Fixed-point monetary amount shared by all services.
+ * The amount is held as a long count of ten-thousandths of the currency unit,
+ * matching the DECIMAL(19, 4) scale used by every schema, so arithmetic never
+ * allocates intermediate BigDecimals.
+ */
+public record Money(long units, Currency currency) {
+
+    public static final int SCALE = 4;
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("USD");
+
+    private static final long BASIS_POINTS = 10_000L;
+
+    public Money {
+        if (units < 0) {
+            throw new IllegalArgumentException("Amount cannot be negative");
+        }
+        if (currency == null) {
+            currency = DEFAULT_CURRENCY;
+        }
+    }
+
+    public static Money zero() {
+        return new Money(0, DEFAULT_CURRENCY);
+    }
+
+    public static Money zero(Currency currency) {
+        return new Money(0, currency);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return of(amount, DEFAULT_CURRENCY);
+    }
+
+    public static Money of(BigDecimal amount, String currencyCode) {
+        return of(amount, Currency.getInstance(currencyCode));
+    }
+
+    /**
+     * Converts a decimal amount without rounding.
+     * Amounts with more than {@link #SCALE} fraction digits are rejected.
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount cannot be null or negative");
+        }
+        try {
+            return new Money(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact(), currency);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount exceeds supported precision: " + amount, e);
+        }
+    }
+
+    public static Money ofUnits(long units, Currency currency) {
+        return new Money(units, currency);
+    }
+
+    /**
+     * Decimal view of the amount. Trailing zeros are stripped down to the
+     * currency's default fraction digits, so 99.99 stays "99.99".
+     */
+    public BigDecimal amount() {
+        BigDecimal value = BigDecimal.valueOf(units, SCALE);
+        int minScale = Math.max(currency.getDefaultFractionDigits(), 0);
+        BigDecimal stripped = value.stripTrailingZeros();
+        return stripped.scale() < minScale ? value.setScale(minScale, RoundingMode.UNNECESSARY) : stripped;
+    }
+
+    public Money add(Money other) {
+        validateSameCurrency(other);
+        return new Money(Math.addExact(units, other.units), currency);
+    }
+
+    public Money subtract(Money other) {
+        validateSameCurrency(other);
+        return new Money(Math.subtractExact(units, other.units), currency);
+    }
+
+    public Money multiply(int quantity) {
+        return new Money(Math.multiplyExact(units, (long) quantity), currency);
+    }
+
+    /**
+     * Applies a rate expressed in basis points (1000 = 10%), rounding half-up at {@link #SCALE}.
+     * The result is exact whenever it fits in {@link #SCALE} digits, e.g. 10% of any cent amount.
+     */
+    public Money multiplyByRate(long basisPoints) {
+        long product = Math.multiplyExact(units, basisPoints);
+        long quotient = product / BASIS_POINTS;
+        if ((product % BASIS_POINTS) * 2 >= BASIS_POINTS) {
+            quotient++;
+        }
+        return new Money(quotient, currency);
+    }
+
+    public boolean isZero() {
+        return units == 0;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        validateSameCurrency(other);
+        return units > other.units;
+    }
+
+    private void validateSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Cannot operate on different currencies");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return amount().toPlainString() + " " + currency.getCurrencyCode();
+    }
+}
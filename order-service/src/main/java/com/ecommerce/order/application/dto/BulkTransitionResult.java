@@ -0,0 +1,14 @@
+package com.ecommerce.order.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk status transition. Orders that were not in the expected
+ * status (or not claimed by the worker) are reported as skipped.
+ */
+public record BulkTransitionResult(
+        String status,
+        List<UUID> updated,
+        List<UUID> skipped
+) {}
@@ -0,0 +1,16 @@
+package com.ecommerce.order.application.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record ClaimOrdersRequest(
+        @NotBlank(message = "Worker ID is required")
+        @Size(max = 100, message = "Worker ID must be less than 100 characters")
+        String workerId,
+
+        @Min(value = 1, message = "Limit must be at least 1")
+        @Max(value = 100, message = "Limit must be at most 100")
+        int limit
+) {}
@@ -0,0 +1,13 @@
+package com.ecommerce.order.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record DeliverOrdersRequest(
+        @NotEmpty(message = "At least one order ID is required")
+        @Size(max = 500, message = "At most 500 orders per batch")
+        List<UUID> orderIds
+) {}
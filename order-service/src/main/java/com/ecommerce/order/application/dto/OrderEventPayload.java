@@ -10,6 +10,8 @@ public record OrderEventPayload(
     UUID customerId,
     String status,
     BigDecimal total,
+    String currency,
     List<OrderItemDto> items,
-    Instant timestamp
+    Instant timestamp,
+    String eventType
 ) {}
@@ -0,0 +1,11 @@
+package com.ecommerce.order.application.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record OrderStatusEventPayload(
+    UUID orderId,
+    String previousStatus,
+    String status,
+    Instant timestamp
+) {}
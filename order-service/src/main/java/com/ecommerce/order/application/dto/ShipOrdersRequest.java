@@ -0,0 +1,18 @@
+package com.ecommerce.order.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ShipOrdersRequest(
+        @NotBlank(message = "Worker ID is required")
+        @Size(max = 100, message = "Worker ID must be less than 100 characters")
+        String workerId,
+
+        @NotEmpty(message = "At least one order ID is required")
+        @Size(max = 500, message = "At most 500 orders per batch")
+        List<UUID> orderIds
+) {}
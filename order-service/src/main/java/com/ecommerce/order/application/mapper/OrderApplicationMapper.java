@@ -1,5 +1,6 @@
 package com.ecommerce.order.application.mapper;
 
+import com.ecommerce.common.domain.Money;
 import com.ecommerce.order.application.dto.*;
 import com.ecommerce.order.domain.entity.Order;
 import com.ecommerce.order.domain.entity.OrderItem;
@@ -7,7 +8,7 @@ import com.ecommerce.order.domain.valueobject.Address;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
-import java.time.Instant;
+import java.math.BigDecimal;
 
 @Mapper(componentModel = "spring")
 public interface OrderApplicationMapper {
@@ -21,8 +22,13 @@ public interface OrderApplicationMapper {
 
     Address toDomain(AddressDto dto);
 
-    @Mapping(target = "orderId", source = "id")
+    @Mapping(target = "orderId", source = "order.id")
     @Mapping(target = "status", expression = "java(order.getStatus().name())")
     @Mapping(target = "timestamp", expression = "java(java.time.Instant.now())")
-    OrderEventPayload toEventPayload(Order order);
+    @Mapping(target = "eventType", source = "eventType")
+    OrderEventPayload toEventPayload(Order order, String eventType);
+
+    default BigDecimal toAmount(Money money) {
+        return money != null ? money.amount() : null;
+    }
 }
@@ -0,0 +1,118 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.dto.BulkTransitionResult;
+import com.ecommerce.order.application.dto.ClaimOrdersRequest;
+import com.ecommerce.order.application.dto.DeliverOrdersRequest;
+import com.ecommerce.order.application.dto.OrderDto;
+import com.ecommerce.order.application.dto.ShipOrdersRequest;
+import com.ecommerce.order.application.mapper.OrderApplicationMapper;
+import com.ecommerce.order.domain.event.OrderStatusChangedEvent;
+import com.ecommerce.order.domain.repository.OrderRepository;
+import com.ecommerce.order.domain.valueobject.OrderStatus;
+import com.ecommerce.order.infrastructure.sharding.ShardRouter;
+import com.ecommerce.order.infrastructure.sharding.ShardedTransactions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Warehouse worklist. Workers claim PAID orders without blocking each other and
+ * confirm shipments and deliveries in batches, one UPDATE per batch per shard.
+ * Each shard is handled in its own transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FulfillmentApplicationService {
+
+    /**
+     * Claims older than this are considered abandoned and can be picked up by another worker.
+     */
+    private static final Duration CLAIM_TTL = Duration.ofMinutes(15);
+
+    private final OrderRepository orderRepository;
+    private final OrderApplicationMapper mapper;
+    private final OrderOutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardRouter shardRouter;
+    private final ShardedTransactions shardedTransactions;
+
+    public List<OrderDto> claimOrders(ClaimOrdersRequest request) {
+        Instant claimExpiredBefore = Instant.now().minus(CLAIM_TTL);
+        List<Integer> shards = shardRouter.allShards();
+        // Start at a random shard so concurrent pickers spread over shards
+        int start = ThreadLocalRandom.current().nextInt(shards.size());
+
+        List<OrderDto> claimed = new ArrayList<>();
+        for (int i = 0; i < shards.size() && claimed.size() < request.limit(); i++) {
+            int shard = shards.get((start + i) % shards.size());
+            int remaining = request.limit() - claimed.size();
+            claimed.addAll(shardedTransactions.inShard(shard, () -> {
+                List<UUID> ids = orderRepository.claimPaidOrders(request.workerId(), remaining, claimExpiredBefore);
+                return orderRepository.findAllById(ids).stream()
+                    .map(mapper::toDto)
+                    .toList();
+            }));
+        }
+
+        log.info("Worker {} claimed {} orders", request.workerId(), claimed.size());
+        return claimed;
+    }
+
+    public BulkTransitionResult shipOrders(ShipOrdersRequest request) {
+        Set<UUID> requested = new LinkedHashSet<>(request.orderIds());
+        List<UUID> shipped = new ArrayList<>();
+        shardRouter.groupOrdersByShard(requested).forEach((shard, orderIds) ->
+            shipped.addAll(shardedTransactions.inShard(shard, () -> {
+                List<UUID> updated = orderRepository.markShipped(request.workerId(), orderIds);
+                publish(updated, OrderStatus.PAID, OrderStatus.SHIPPED);
+                return updated;
+            })));
+
+        log.info("Worker {} shipped {}/{} orders", request.workerId(), shipped.size(), requested.size());
+
+        return result(requested, shipped, OrderStatus.SHIPPED);
+    }
+
+    public BulkTransitionResult deliverOrders(DeliverOrdersRequest request) {
+        Set<UUID> requested = new LinkedHashSet<>(request.orderIds());
+        List<UUID> delivered = new ArrayList<>();
+        shardRouter.groupOrdersByShard(requested).forEach((shard, orderIds) ->
+            delivered.addAll(shardedTransactions.inShard(shard, () -> {
+                List<UUID> updated = orderRepository.markDelivered(orderIds);
+                publish(updated, OrderStatus.SHIPPED, OrderStatus.DELIVERED);
+                return updated;
+            })));
+
+        log.info("Delivered {}/{} orders", delivered.size(), requested.size());
+
+        return result(requested, delivered, OrderStatus.DELIVERED);
+    }
+
+    private void publish(List<UUID> updated, OrderStatus previousStatus, OrderStatus newStatus) {
+        updated.forEach(orderId -> {
+            outboxService.appendStatusChange(orderId, newStatus);
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(orderId, previousStatus, newStatus));
+        });
+    }
+
+    private BulkTransitionResult result(Set<UUID> requested, List<UUID> updated, OrderStatus newStatus) {
+        Set<UUID> updatedSet = new HashSet<>(updated);
+        List<UUID> skipped = requested.stream()
+            .filter(orderId -> !updatedSet.contains(orderId))
+            .toList();
+
+        return new BulkTransitionResult(newStatus.name(), List.copyOf(updated), skipped);
+    }
+}
@@ -1,19 +1,22 @@
 package com.ecommerce.order.application.service;
 
+import com.ecommerce.common.domain.Money;
+import com.ecommerce.common.exception.ResourceNotFoundException;
 import com.ecommerce.order.application.dto.CreateOrderRequest;
 import com.ecommerce.order.application.dto.OrderDto;
-import com.ecommerce.order.application.dto.OrderEventPayload;
 import com.ecommerce.order.application.mapper.OrderApplicationMapper;
 import com.ecommerce.order.domain.entity.Order;
 import com.ecommerce.order.domain.entity.OrderItem;
 import com.ecommerce.order.domain.entity.OutboxEvent;
+import com.ecommerce.order.domain.event.OrderStatusChangedEvent;
 import com.ecommerce.order.domain.repository.OrderRepository;
-import com.ecommerce.order.domain.repository.OutboxEventRepository;
 import com.ecommerce.order.domain.valueobject.Address;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ecommerce.order.domain.valueobject.OrderStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,9 +29,9 @@ import java.util.UUID;
 public class OrderApplicationService {
 
     private final OrderRepository orderRepository;
-    private final OutboxEventRepository outboxEventRepository;
+    private final OrderOutboxService outboxService;
     private final OrderApplicationMapper mapper;
-    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public OrderDto createOrder(CreateOrderRequest request) {
@@ -48,18 +51,17 @@ public class OrderApplicationService {
                 "Product Name", // Should be fetched from product service
                 "SKU-" + itemRequest.productId(),
                 itemRequest.quantity(),
-                new BigDecimal("99.99") // Should be fetched from product service
+                Money.of(new BigDecimal("99.99")) // Should be fetched from product service
             );
             order.addItem(item);
         });
 
-        order.setShippingCost(new BigDecimal("10.00"));
+        order.setShippingCost(Money.of(new BigDecimal("10.00")));
         order.confirm();
 
         Order savedOrder = orderRepository.save(order);
 
-        OutboxEvent outboxEvent = createOutboxEvent(savedOrder, "ORDER_CREATED");
-        outboxEventRepository.save(outboxEvent);
+        OutboxEvent outboxEvent = outboxService.append(savedOrder, OrderOutboxService.ORDER_CREATED);
 
         log.info("Order created successfully: {} with outbox event: {}", savedOrder.getId(), outboxEvent.getId());
 
@@ -72,6 +74,20 @@ public class OrderApplicationService {
         throw new UnsupportedOperationException("Get order not yet implemented");
     }
 
+    /**
+     * Admin listing across all shards; each shard is queried in its own transaction.
+     */
+    public Page<OrderDto> getOrdersByStatus(OrderStatus status, Pageable pageable) {
+        return orderRepository.findByStatus(status, pageable).map(mapper::toDto);
+    }
+
+    @Transactional(readOnly = true)
+    public OrderStatus getOrderStatus(UUID orderId) {
+        return orderRepository.findById(orderId)
+            .map(Order::getStatus)
+            .orElseThrow(() -> new ResourceNotFoundException("Order", "id", orderId));
+    }
+
     @Transactional
     public void markOrderAsPaid(UUID orderId) {
         log.info("Marking order as paid: {}", orderId);
@@ -79,8 +95,10 @@ public class OrderApplicationService {
         Order order = orderRepository.findById(orderId)
             .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
 
+        OrderStatus previousStatus = order.getStatus();
         order.markAsPaid();
         orderRepository.save(order);
+        publishStatusChange(order, previousStatus);
 
         log.info("Order marked as paid successfully: {}", orderId);
     }
@@ -92,8 +110,10 @@ public class OrderApplicationService {
         Order order = orderRepository.findById(orderId)
             .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
 
+        OrderStatus previousStatus = order.getStatus();
         order.cancel();
         orderRepository.save(order);
+        publishStatusChange(order, previousStatus);
 
         log.info("Order cancelled successfully: {}", orderId);
     }
@@ -103,20 +123,8 @@ public class OrderApplicationService {
         cancelOrder(orderId, "Cancelled by customer");
     }
 
-    private OutboxEvent createOutboxEvent(Order order, String eventType) {
-        try {
-            OrderEventPayload payload = mapper.toEventPayload(order);
-            String payloadJson = objectMapper.writeValueAsString(payload);
-
-            return OutboxEvent.create(
-                order.getId(),
-                "Order",
-                eventType,
-                payloadJson
-            );
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize order event payload", e);
-            throw new RuntimeException("Failed to create outbox event", e);
-        }
+    private void publishStatusChange(Order order, OrderStatus previousStatus) {
+        outboxService.append(order, OrderOutboxService.ORDER_STATUS_CHANGED);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(order.getId(), previousStatus, order.getStatus()));
     }
 }
@@ -0,0 +1,60 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.dto.OrderEventPayload;
+import com.ecommerce.order.application.mapper.OrderApplicationMapper;
+import com.ecommerce.order.domain.entity.Order;
+import com.ecommerce.order.domain.entity.OutboxEvent;
+import com.ecommerce.order.domain.repository.OutboxEventRepository;
+import com.ecommerce.order.domain.valueobject.OrderStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Writes order events to the transactional outbox. Must be called inside the
+ * transaction that changes the order.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderOutboxService {
+
+    public static final String ORDER_CREATED = "ORDER_CREATED";
+    public static final String ORDER_STATUS_CHANGED = "ORDER_STATUS_CHANGED";
+
+    private static final String AGGREGATE_TYPE = "Order";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OrderApplicationMapper mapper;
+    private final ObjectMapper objectMapper;
+
+    public OutboxEvent append(Order order, String eventType) {
+        return save(order.getId(), mapper.toEventPayload(order, eventType));
+    }
+
+    /**
+     * Appends a status-only event for transitions applied in bulk, where the
+     * aggregate is never loaded.
+     */
+    public OutboxEvent appendStatusChange(UUID orderId, OrderStatus status) {
+        OrderEventPayload payload = new OrderEventPayload(
+            orderId, null, status.name(), null, null, null, Instant.now(), ORDER_STATUS_CHANGED);
+        return save(orderId, payload);
+    }
+
+    private OutboxEvent save(UUID orderId, OrderEventPayload payload) {
+        try {
+            String payloadJson = objectMapper.writeValueAsString(payload);
+            OutboxEvent event = OutboxEvent.create(orderId, AGGREGATE_TYPE, payload.eventType(), payloadJson);
+            return outboxEventRepository.save(event);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize order event payload", e);
+            throw new RuntimeException("Failed to create outbox event", e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.dto.OrderEventPayload;
+import com.ecommerce.order.application.dto.OrderItemDto;
+import com.ecommerce.order.application.dto.PaymentEventPayload;
+import com.ecommerce.order.domain.readmodel.OrderSummary;
+import com.ecommerce.order.domain.readmodel.OrderSummaryFilter;
+import com.ecommerce.order.domain.repository.OrderSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Query side for order listings. Summaries are projected from order and payment
+ * events and never read the orders tables at query time.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSummaryService {
+
+    private final OrderSummaryRepository summaryRepository;
+
+    public Page<OrderSummary> search(OrderSummaryFilter filter, Pageable pageable) {
+        return summaryRepository.search(filter, pageable);
+    }
+
+    @Transactional
+    public void project(OrderEventPayload event) {
+        List<OrderItemDto> items = event.items();
+        Integer itemCount = items != null ? items.size() : null;
+        // Same rule as the rebuild: items carry no position, so the first name in code point order
+        String firstProductName = items == null ? null : items.stream()
+            .map(OrderItemDto::productName)
+            .min(Comparator.naturalOrder())
+            .orElse(null);
+        Instant eventAt = event.timestamp() != null ? event.timestamp() : Instant.now();
+        Instant createdAt = OrderOutboxService.ORDER_CREATED.equals(event.eventType()) ? eventAt : null;
+
+        summaryRepository.applyOrderEvent(
+            event.orderId(),
+            event.customerId(),
+            event.status(),
+            itemCount,
+            firstProductName,
+            event.total(),
+            event.currency(),
+            createdAt,
+            eventAt
+        );
+    }
+
+    @Transactional
+    public void project(PaymentEventPayload event) {
+        Instant eventAt = event.timestamp() != null ? event.timestamp() : Instant.now();
+        summaryRepository.applyPaymentEvent(event.orderId(), event.paymentId(), event.status(), eventAt);
+    }
+
+    public int rebuild() {
+        log.info("Rebuilding order summary read model");
+        int written = summaryRepository.rebuildFromOrders();
+        log.info("Order summary read model rebuilt: {} summaries", written);
+        return written;
+    }
+}
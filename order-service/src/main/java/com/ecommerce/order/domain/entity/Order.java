@@ -1,15 +1,17 @@
 package com.ecommerce.order.domain.entity;
 
+import com.ecommerce.common.domain.Money;
+import com.ecommerce.common.exception.BusinessException;
 import com.ecommerce.order.domain.valueobject.Address;
 import com.ecommerce.order.domain.valueobject.OrderStatus;
-import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.order.domain.valueobject.ShardBucket;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,32 +19,34 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order {
 
+    private static final long TAX_RATE_BASIS_POINTS = 1_000; // 10% tax
+
     private UUID id;
     private UUID customerId;
     private List<OrderItem> items;
     private Address shippingAddress;
     private Address billingAddress;
     private OrderStatus status;
-    private BigDecimal subtotal;
-    private BigDecimal tax;
-    private BigDecimal shippingCost;
-    private BigDecimal total;
+    private Money subtotal;
+    private Money tax;
+    private Money shippingCost;
+    private Money total;
     private String currency;
     private Instant createdAt;
     private Instant updatedAt;
 
     private Order(UUID customerId, Address shippingAddress, Address billingAddress) {
-        this.id = UUID.randomUUID();
+        this.id = ShardBucket.newOrderId(customerId);
         this.customerId = customerId;
         this.items = new ArrayList<>();
         this.shippingAddress = shippingAddress;
         this.billingAddress = billingAddress;
         this.status = OrderStatus.PENDING;
-        this.subtotal = BigDecimal.ZERO;
-        this.tax = BigDecimal.ZERO;
-        this.shippingCost = BigDecimal.ZERO;
-        this.total = BigDecimal.ZERO;
-        this.currency = "USD";
+        this.subtotal = Money.zero(Money.DEFAULT_CURRENCY);
+        this.tax = Money.zero(Money.DEFAULT_CURRENCY);
+        this.shippingCost = Money.zero(Money.DEFAULT_CURRENCY);
+        this.total = Money.zero(Money.DEFAULT_CURRENCY);
+        this.currency = Money.DEFAULT_CURRENCY.getCurrencyCode();
         this.createdAt = Instant.now();
         this.updatedAt = Instant.now();
     }
@@ -53,25 +57,32 @@ public class Order {
 
     public void addItem(OrderItem item) {
         this.items.add(item);
+        this.subtotal = subtotal.add(item.getTotalPrice());
         recalculateTotals();
     }
 
     public void removeItem(UUID productId) {
-        items.removeIf(item -> item.getProductId().equals(productId));
+        Iterator<OrderItem> iterator = items.iterator();
+        while (iterator.hasNext()) {
+            OrderItem item = iterator.next();
+            if (item.getProductId().equals(productId)) {
+                iterator.remove();
+                this.subtotal = subtotal.subtract(item.getTotalPrice());
+            }
+        }
         recalculateTotals();
     }
 
+    /**
+     * Derives tax and total from the running subtotal; items are never re-scanned.
+     */
     private void recalculateTotals() {
-        this.subtotal = items.stream()
-                .map(OrderItem::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        this.tax = subtotal.multiply(new BigDecimal("0.10")); // 10% tax
+        this.tax = subtotal.multiplyByRate(TAX_RATE_BASIS_POINTS);
         this.total = subtotal.add(tax).add(shippingCost);
         this.updatedAt = Instant.now();
     }
 
-    public void setShippingCost(BigDecimal cost) {
+    public void setShippingCost(Money cost) {
         this.shippingCost = cost;
         recalculateTotals();
     }
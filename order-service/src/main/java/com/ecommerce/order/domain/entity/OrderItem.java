@@ -1,10 +1,10 @@
 package com.ecommerce.order.domain.entity;
 
+import com.ecommerce.common.domain.Money;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 @Getter
@@ -16,24 +16,24 @@ public class OrderItem {
     private String productName;
     private String productSku;
     private Integer quantity;
-    private BigDecimal unitPrice;
-    private BigDecimal totalPrice;
+    private Money unitPrice;
+    private Money totalPrice;
 
-    private OrderItem(UUID productId, String productName, String productSku, Integer quantity, BigDecimal unitPrice) {
+    private OrderItem(UUID productId, String productName, String productSku, Integer quantity, Money unitPrice) {
         this.id = UUID.randomUUID();
         this.productId = productId;
         this.productName = productName;
         this.productSku = productSku;
         this.quantity = quantity;
         this.unitPrice = unitPrice;
-        this.totalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
+        this.totalPrice = unitPrice.multiply(quantity);
     }
 
-    public static OrderItem create(UUID productId, String productName, String productSku, Integer quantity, BigDecimal unitPrice) {
+    public static OrderItem create(UUID productId, String productName, String productSku, Integer quantity, Money unitPrice) {
         if (quantity <= 0) {
             throw new IllegalArgumentException("Quantity must be positive");
         }
-        if (unitPrice.compareTo(BigDecimal.ZERO) <= 0) {
+        if (unitPrice.isZero()) {
             throw new IllegalArgumentException("Unit price must be positive");
         }
         return new OrderItem(productId, productName, productSku, quantity, unitPrice);
@@ -44,6 +44,6 @@ public class OrderItem {
             throw new IllegalArgumentException("Quantity must be positive");
         }
         this.quantity = newQuantity;
-        this.totalPrice = unitPrice.multiply(BigDecimal.valueOf(newQuantity));
+        this.totalPrice = unitPrice.multiply(newQuantity);
     }
 }
@@ -0,0 +1,22 @@
+package com.ecommerce.order.domain.readmodel;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Denormalized, read-only view of an order used by listing and search screens.
+ */
+public record OrderSummary(
+        UUID orderId,
+        UUID customerId,
+        String status,
+        Integer itemCount,
+        String firstProductName,
+        BigDecimal total,
+        String currency,
+        UUID paymentId,
+        String paymentStatus,
+        Instant createdAt,
+        Instant updatedAt
+) {}
@@ -0,0 +1,14 @@
+package com.ecommerce.order.domain.readmodel;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Optional criteria for order summary searches; null fields are not applied.
+ */
+public record OrderSummaryFilter(
+        UUID customerId,
+        String status,
+        Instant createdFrom,
+        Instant createdTo
+) {}
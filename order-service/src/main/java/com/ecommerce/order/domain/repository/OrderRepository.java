@@ -5,6 +5,9 @@ import com.ecommerce.order.domain.valueobject.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,5 +21,30 @@ public interface OrderRepository {
 
     Page<Order> findByStatus(OrderStatus status, Pageable pageable);
 
+    List<Order> findAllById(Collection<UUID> ids);
+
+    /**
+     * Claims up to {@code limit} PAID orders for a fulfillment worker, skipping orders
+     * claimed by others unless their claim is older than {@code claimExpiredBefore}.
+     *
+     * @return IDs of the orders now claimed by the worker
+     */
+    List<UUID> claimPaidOrders(String workerId, int limit, Instant claimExpiredBefore);
+
+    /**
+     * Moves the given orders from PAID to SHIPPED in a single statement. Only orders
+     * currently claimed by the worker are updated.
+     *
+     * @return IDs of the orders that were shipped
+     */
+    List<UUID> markShipped(String workerId, Collection<UUID> orderIds);
+
+    /**
+     * Moves the given orders from SHIPPED to DELIVERED in a single statement.
+     *
+     * @return IDs of the orders that were delivered
+     */
+    List<UUID> markDelivered(Collection<UUID> orderIds);
+
     void delete(Order order);
 }
@@ -0,0 +1,32 @@
+package com.ecommerce.order.domain.repository;
+
+import com.ecommerce.order.domain.readmodel.OrderSummary;
+import com.ecommerce.order.domain.readmodel.OrderSummaryFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public interface OrderSummaryRepository {
+
+    Page<OrderSummary> search(OrderSummaryFilter filter, Pageable pageable);
+
+    /**
+     * Applies an order event. Null values keep the stored column, and events older
+     * than the last applied one are ignored, so redelivery and reordering are safe.
+     */
+    void applyOrderEvent(UUID orderId, UUID customerId, String status, Integer itemCount,
+                         String firstProductName, BigDecimal total, String currency,
+                         Instant createdAt, Instant eventAt);
+
+    void applyPaymentEvent(UUID orderId, UUID paymentId, String paymentStatus, Instant eventAt);
+
+    /**
+     * Rebuilds every summary from the orders tables in bulk.
+     *
+     * @return number of summaries written
+     */
+    int rebuildFromOrders();
+}
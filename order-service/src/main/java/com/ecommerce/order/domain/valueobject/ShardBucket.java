@@ -0,0 +1,42 @@
+package com.ecommerce.order.domain.valueobject;
+
+import java.util.UUID;
+
+/**
+ * Maps customers to one of a fixed number of buckets and stamps that bucket into
+ * the low bits of every order ID. Any order can then be routed to its customer's
+ * shard from its ID alone, and resharding only moves whole buckets.
+ */
+public final class ShardBucket {
+
+    public static final int BUCKET_COUNT = 1024;
+
+    private static final long BUCKET_MASK = BUCKET_COUNT - 1;
+
+    private ShardBucket() {}
+
+    public static int of(UUID customerId) {
+        long hash = mix(customerId.getMostSignificantBits() ^ customerId.getLeastSignificantBits());
+        return (int) (hash & BUCKET_MASK);
+    }
+
+    public static int fromOrderId(UUID orderId) {
+        return (int) (orderId.getLeastSignificantBits() & BUCKET_MASK);
+    }
+
+    /**
+     * Random (version 4) order ID whose low bits carry the customer's bucket.
+     */
+    public static UUID newOrderId(UUID customerId) {
+        UUID random = UUID.randomUUID();
+        long leastSignificantBits = (random.getLeastSignificantBits() & ~BUCKET_MASK) | of(customerId);
+        return new UUID(random.getMostSignificantBits(), leastSignificantBits);
+    }
+
+    // SplitMix64 finalizer: spreads sequential or low-entropy IDs evenly across buckets
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,32 @@
+package com.ecommerce.order.infrastructure.config;
+
+import com.ecommerce.order.infrastructure.messaging.OrderStatusBroadcaster;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    public static final String ORDER_STATUS_CHANNEL = "order-status-events";
+
+    /**
+     * Subscribes every instance to the order status channel so that status changes
+     * committed on one instance reach SSE subscribers connected to any other.
+     */
+    @Bean
+    public RedisMessageListenerContainer orderStatusListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                      OrderStatusBroadcaster broadcaster) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("order-status-");
+        executor.setVirtualThreads(true);
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(executor);
+        container.addMessageListener(broadcaster, new ChannelTopic(ORDER_STATUS_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,215 @@
+package com.ecommerce.order.infrastructure.messaging;
+
+import com.ecommerce.order.application.dto.OrderStatusEventPayload;
+import com.ecommerce.order.domain.valueobject.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Holds the SSE subscribers connected to this instance and fans out order status
+ * changes received from the Redis channel to them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderStatusBroadcaster implements MessageListener {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final String STATUS_EVENT = "status";
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Registers a subscriber, then reads and sends the current status. Registering
+     * first means a transition committed while the stream opens is either in the
+     * snapshot or delivered as an event, possibly both; clients dedupe by status.
+     * The snapshot is always the first event sent. A failing status lookup, such as
+     * an unknown order, unregisters and propagates.
+     */
+    public SseEmitter subscribe(UUID orderId, Supplier<OrderStatus> currentStatus) {
+        Subscriber subscriber = new Subscriber(orderId, new SseEmitter(EMITTER_TIMEOUT_MILLIS));
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(subscriber));
+        subscribers.computeIfAbsent(orderId, id -> new CopyOnWriteArraySet<>()).add(subscriber);
+
+        OrderStatus status;
+        try {
+            status = currentStatus.get();
+        } catch (RuntimeException e) {
+            unsubscribe(subscriber);
+            throw e;
+        }
+
+        OrderStatusEventPayload snapshot = new OrderStatusEventPayload(orderId, null, status.name(), Instant.now());
+        subscriber.start(snapshot, isTerminal(status));
+        log.debug("SSE subscriber added for order: {}", orderId);
+        return subscriber.emitter;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            OrderStatusEventPayload event = objectMapper.readValue(
+                new String(message.getBody(), StandardCharsets.UTF_8), OrderStatusEventPayload.class);
+            dispatch(event);
+        } catch (Exception e) {
+            log.error("Failed to process order status message", e);
+        }
+    }
+
+    private void dispatch(OrderStatusEventPayload event) {
+        Set<Subscriber> orderSubscribers = subscribers.get(event.orderId());
+        if (orderSubscribers == null || orderSubscribers.isEmpty()) {
+            return;
+        }
+
+        boolean terminal = isTerminal(OrderStatus.valueOf(event.status()));
+        if (terminal) {
+            subscribers.remove(event.orderId());
+        }
+        orderSubscribers.forEach(subscriber -> subscriber.enqueue(event, terminal));
+    }
+
+    /**
+     * Keeps idle connections open through the gateway and intermediate proxies.
+     */
+    @Scheduled(fixedDelay = 20000)
+    public void sendHeartbeats() {
+        subscribers.values().forEach(orderSubscribers -> orderSubscribers.forEach(Subscriber::heartbeat));
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.orderId, (id, orderSubscribers) -> {
+            orderSubscribers.remove(subscriber);
+            return orderSubscribers.isEmpty() ? null : orderSubscribers;
+        });
+    }
+
+    private boolean isTerminal(OrderStatus status) {
+        return status == OrderStatus.DELIVERED
+            || status == OrderStatus.CANCELLED
+            || status == OrderStatus.REFUNDED;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(orderSubscribers -> orderSubscribers.forEach(subscriber ->
+            subscriber.emitter.complete()));
+        subscribers.clear();
+        sendExecutor.shutdown();
+    }
+
+    /**
+     * One connection. Its sends run one at a time, in the order they were queued,
+     * on a virtual thread, so a slow client never delays the others and its own
+     * events are never reordered. A terminal event completes the stream only after
+     * everything queued before it has been written.
+     */
+    private final class Subscriber {
+
+        private final UUID orderId;
+        private final SseEmitter emitter;
+        private final ConcurrentLinkedDeque<Runnable> pending = new ConcurrentLinkedDeque<>();
+        // Held until start() so events that arrive first queue behind the snapshot
+        private final AtomicBoolean draining = new AtomicBoolean(true);
+        private volatile boolean closed;
+
+        private Subscriber(UUID orderId, SseEmitter emitter) {
+            this.orderId = orderId;
+            this.emitter = emitter;
+        }
+
+        void start(OrderStatusEventPayload snapshot, boolean terminal) {
+            pending.addFirst(() -> write(snapshot, terminal));
+            draining.set(false);
+            scheduleDrain();
+        }
+
+        void enqueue(OrderStatusEventPayload event, boolean terminal) {
+            pending.addLast(() -> write(event, terminal));
+            scheduleDrain();
+        }
+
+        void heartbeat() {
+            pending.addLast(() -> {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    close(e);
+                }
+            });
+            scheduleDrain();
+        }
+
+        private void write(OrderStatusEventPayload event, boolean terminal) {
+            try {
+                emitter.send(SseEmitter.event()
+                    .name(STATUS_EVENT)
+                    .id(event.orderId() + ":" + event.status())
+                    .data(event));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping SSE subscriber for order: {}", event.orderId());
+                close(e);
+                return;
+            }
+            if (terminal) {
+                closed = true;
+                unsubscribe(this);
+                emitter.complete();
+            }
+        }
+
+        private void close(Exception cause) {
+            closed = true;
+            emitter.completeWithError(cause);
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sendExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Runnable send;
+                while ((send = pending.pollFirst()) != null) {
+                    if (!closed) {
+                        send.run();
+                    }
+                }
+            } finally {
+                draining.set(false);
+            }
+            // A send queued after the last poll but before the flag was released
+            if (!pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ecommerce.order.infrastructure.messaging;
+
+import com.ecommerce.order.application.dto.OrderStatusEventPayload;
+import com.ecommerce.order.domain.event.OrderStatusChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static com.ecommerce.order.infrastructure.config.RedisConfig.ORDER_STATUS_CHANNEL;
+
+/**
+ * Broadcasts committed order status transitions to all instances over Redis pub/sub.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderStatusEventPublisher {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        try {
+            OrderStatusEventPayload payload = new OrderStatusEventPayload(
+                event.getOrderId(),
+                event.getPreviousStatus().name(),
+                event.getNewStatus().name(),
+                event.getOccurredOn()
+            );
+            redisTemplate.convertAndSend(ORDER_STATUS_CHANNEL, objectMapper.writeValueAsString(payload));
+        } catch (Exception e) {
+            // The transition is already committed; subscribers will see it on reconnect
+            log.error("Failed to broadcast status change for order: {}", event.getOrderId(), e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.order.infrastructure.messaging;
+
+import com.ecommerce.order.application.dto.OrderEventPayload;
+import com.ecommerce.order.application.dto.PaymentEventPayload;
+import com.ecommerce.order.application.service.OrderSummaryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the order summary read model up to date. Uses its own consumer group so
+ * the projection can be replayed independently of the payment saga.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryEventConsumer {
+
+    private static final String GROUP_ID = "order-service-read-model";
+
+    private final OrderSummaryService orderSummaryService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "order-events", groupId = GROUP_ID)
+    public void consumeOrderEvent(String message) {
+        try {
+            OrderEventPayload event = objectMapper.readValue(message, OrderEventPayload.class);
+            orderSummaryService.project(event);
+        } catch (Exception e) {
+            log.error("Failed to project order event: {}", message, e);
+        }
+    }
+
+    @KafkaListener(topics = "payment-events", groupId = GROUP_ID)
+    public void consumePaymentEvent(String message) {
+        try {
+            PaymentEventPayload event = objectMapper.readValue(message, PaymentEventPayload.class);
+            orderSummaryService.project(event);
+        } catch (Exception e) {
+            log.error("Failed to project payment event: {}", message, e);
+        }
+    }
+}
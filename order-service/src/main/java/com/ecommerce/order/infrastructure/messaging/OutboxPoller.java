@@ -2,13 +2,13 @@ package com.ecommerce.order.infrastructure.messaging;
 
 import com.ecommerce.order.domain.entity.OutboxEvent;
 import com.ecommerce.order.domain.repository.OutboxEventRepository;
+import com.ecommerce.order.infrastructure.sharding.ShardedTransactions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -26,23 +26,33 @@ public class OutboxPoller {
 
     private final OutboxEventRepository outboxEventRepository;
     private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ShardedTransactions shardedTransactions;
 
     /**
      * Polls for pending outbox events and publishes them to Kafka.
-     * Runs every 5 seconds to ensure timely event delivery.
+     * Runs every 5 seconds to ensure timely event delivery. Each shard is
+     * polled concurrently in its own transaction, since outbox rows live on
+     * the same shard as their order.
      */
     @Scheduled(fixedDelay = 5000)
-    @Transactional
     public void pollAndPublish() {
+        try {
+            shardedTransactions.forEachShard(this::pollShard);
+        } catch (Exception e) {
+            log.error("Unexpected error during outbox polling", e);
+        }
+    }
+
+    private Void pollShard(int shard) {
         try {
             List<OutboxEvent> events = outboxEventRepository.findPendingEventsForUpdate(BATCH_SIZE);
 
             if (events.isEmpty()) {
-                log.trace("No pending outbox events to process");
-                return;
+                log.trace("No pending outbox events to process on shard {}", shard);
+                return null;
             }
 
-            log.info("Processing batch of {} pending outbox events", events.size());
+            log.info("Processing batch of {} pending outbox events on shard {}", events.size(), shard);
 
             int successCount = 0;
             int failureCount = 0;
@@ -56,11 +66,12 @@ public class OutboxPoller {
                 }
             }
 
-            log.info("Batch processing completed: {} succeeded, {} failed", successCount, failureCount);
+            log.info("Batch processing completed on shard {}: {} succeeded, {} failed", shard, successCount, failureCount);
 
         } catch (Exception e) {
-            log.error("Unexpected error during outbox polling", e);
+            log.error("Unexpected error during outbox polling on shard {}", shard, e);
         }
+        return null;
     }
 
     /**
@@ -6,11 +6,18 @@ import com.ecommerce.order.domain.valueobject.OrderStatus;
 import com.ecommerce.order.infrastructure.persistence.entity.OrderJpaEntity;
 import com.ecommerce.order.infrastructure.persistence.mapper.OrderPersistenceMapper;
 import com.ecommerce.order.infrastructure.persistence.repository.OrderJpaRepository;
+import com.ecommerce.order.infrastructure.sharding.ShardContext;
+import com.ecommerce.order.infrastructure.sharding.ShardPages;
+import com.ecommerce.order.infrastructure.sharding.ShardRouter;
+import com.ecommerce.order.infrastructure.sharding.ShardedTransactions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,9 +27,12 @@ public class OrderRepositoryAdapter implements OrderRepository {
 
     private final OrderJpaRepository jpaRepository;
     private final OrderPersistenceMapper mapper;
+    private final ShardRouter shardRouter;
+    private final ShardedTransactions shardedTransactions;
 
     @Override
     public Order save(Order order) {
+        ShardContext.bind(shardRouter.shardForCustomer(order.getCustomerId()));
         OrderJpaEntity entity = mapper.toJpaEntity(order);
 
         // Set bidirectional relationship for order items
@@ -34,23 +44,82 @@ public class OrderRepositoryAdapter implements OrderRepository {
 
     @Override
     public Optional<Order> findById(UUID id) {
+        ShardContext.bind(shardRouter.shardForOrder(id));
         return jpaRepository.findById(id)
             .map(mapper::toDomain);
     }
 
     @Override
     public Page<Order> findByCustomerId(UUID customerId, Pageable pageable) {
-        throw new UnsupportedOperationException("Find by customer ID not yet implemented - requires domain reconstruction");
+        ShardContext.bind(shardRouter.shardForCustomer(customerId));
+        return jpaRepository.findByCustomerId(customerId, pageable)
+            .map(mapper::toDomain);
     }
 
+    /**
+     * Scatter-gather across all shards, merged by creation time.
+     */
     @Override
     public Page<Order> findByStatus(OrderStatus status, Pageable pageable) {
-        throw new UnsupportedOperationException("Find by status not yet implemented - requires domain reconstruction");
+        if (shardRouter.shardCount() == 1) {
+            return shardedTransactions.readInShard(0, () ->
+                jpaRepository.findByStatus(status, pageable).map(mapper::toDomain));
+        }
+
+        Pageable window = ShardPages.shardWindow(pageable);
+        List<Page<Order>> shardPages = shardedTransactions.scatter(shard ->
+            jpaRepository.findByStatus(status, window).map(mapper::toDomain));
+        return ShardPages.mergeByCreatedAt(shardPages, pageable, Order::getCreatedAt);
+    }
+
+    @Override
+    public List<Order> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        bindShardOf(ids);
+        return jpaRepository.findAllWithItemsByIdIn(ids).stream()
+            .map(mapper::toDomain)
+            .toList();
+    }
+
+    /**
+     * Claims on the shard bound by the caller.
+     */
+    @Override
+    public List<UUID> claimPaidOrders(String workerId, int limit, Instant claimExpiredBefore) {
+        return jpaRepository.claimPaidOrders(workerId, limit, Instant.now(), claimExpiredBefore);
+    }
+
+    @Override
+    public List<UUID> markShipped(String workerId, Collection<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        bindShardOf(orderIds);
+        return jpaRepository.markClaimedOrdersShipped(workerId, orderIds, Instant.now());
+    }
+
+    @Override
+    public List<UUID> markDelivered(Collection<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        bindShardOf(orderIds);
+        return jpaRepository.markShippedOrdersDelivered(orderIds, Instant.now());
     }
 
     @Override
     public void delete(Order order) {
+        ShardContext.bind(shardRouter.shardForOrder(order.getId()));
         jpaRepository.deleteById(order.getId());
     }
-}
 
+    /**
+     * Batch statements run on a single shard; IDs spanning shards fail fast in
+     * ShardContext and must be grouped with ShardRouter#groupOrdersByShard first.
+     */
+    private void bindShardOf(Collection<UUID> orderIds) {
+        orderIds.forEach(orderId -> ShardContext.bind(shardRouter.shardForOrder(orderId)));
+    }
+}
@@ -0,0 +1,113 @@
+package com.ecommerce.order.infrastructure.persistence.adapter;
+
+import com.ecommerce.order.domain.readmodel.OrderSummary;
+import com.ecommerce.order.domain.readmodel.OrderSummaryFilter;
+import com.ecommerce.order.domain.repository.OrderSummaryRepository;
+import com.ecommerce.order.infrastructure.persistence.entity.OrderSummaryJpaEntity;
+import com.ecommerce.order.infrastructure.persistence.repository.OrderSummaryJpaRepository;
+import com.ecommerce.order.infrastructure.sharding.ShardContext;
+import com.ecommerce.order.infrastructure.sharding.ShardPages;
+import com.ecommerce.order.infrastructure.sharding.ShardRouter;
+import com.ecommerce.order.infrastructure.sharding.ShardedTransactions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Summaries are co-located with their orders: customer queries hit one shard,
+ * other searches scatter to all shards and merge by creation time.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryRepositoryAdapter implements OrderSummaryRepository {
+
+    private final OrderSummaryJpaRepository jpaRepository;
+    private final ShardRouter shardRouter;
+    private final ShardedTransactions shardedTransactions;
+
+    @Override
+    public Page<OrderSummary> search(OrderSummaryFilter filter, Pageable pageable) {
+        Specification<OrderSummaryJpaEntity> spec = toSpecification(filter);
+
+        if (filter.customerId() != null || shardRouter.shardCount() == 1) {
+            int shard = filter.customerId() != null ? shardRouter.shardForCustomer(filter.customerId()) : 0;
+            return shardedTransactions.readInShard(shard, () ->
+                jpaRepository.findAll(spec, pageable).map(this::toReadModel));
+        }
+
+        Pageable window = ShardPages.shardWindow(pageable);
+        List<Page<OrderSummary>> shardPages = shardedTransactions.scatter(shard ->
+            jpaRepository.findAll(spec, window).map(this::toReadModel));
+        return ShardPages.mergeByCreatedAt(shardPages, pageable, OrderSummary::createdAt);
+    }
+
+    private Specification<OrderSummaryJpaEntity> toSpecification(OrderSummaryFilter filter) {
+        // Rows created by a payment event that arrived before ORDER_CREATED are not listable yet
+        Specification<OrderSummaryJpaEntity> spec = (root, query, cb) -> cb.isNotNull(root.get("customerId"));
+
+        if (filter.customerId() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("customerId"), filter.customerId()));
+        }
+        if (filter.status() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), filter.status()));
+        }
+        if (filter.createdFrom() != null) {
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            spec = spec.and((root, query, cb) -> cb.lessThan(root.get("createdAt"), filter.createdTo()));
+        }
+
+        return spec;
+    }
+
+    @Override
+    public void applyOrderEvent(UUID orderId, UUID customerId, String status, Integer itemCount,
+                                String firstProductName, BigDecimal total, String currency,
+                                Instant createdAt, Instant eventAt) {
+        ShardContext.bind(shardRouter.shardForOrder(orderId));
+        jpaRepository.upsertOrder(orderId, customerId, status, itemCount, firstProductName,
+            total, currency, createdAt, eventAt);
+    }
+
+    @Override
+    public void applyPaymentEvent(UUID orderId, UUID paymentId, String paymentStatus, Instant eventAt) {
+        ShardContext.bind(shardRouter.shardForOrder(orderId));
+        jpaRepository.upsertPayment(orderId, paymentId, paymentStatus, eventAt);
+    }
+
+    /**
+     * Each shard rebuilds its own summaries from its own orders, in parallel.
+     */
+    @Override
+    public int rebuildFromOrders() {
+        return shardedTransactions.forEachShard(shard -> {
+            int written = jpaRepository.rebuildFromOrders();
+            jpaRepository.deleteOrphans();
+            return written;
+        }).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private OrderSummary toReadModel(OrderSummaryJpaEntity entity) {
+        return new OrderSummary(
+            entity.getOrderId(),
+            entity.getCustomerId(),
+            entity.getStatus(),
+            entity.getItemCount(),
+            entity.getFirstProductName(),
+            entity.getTotal(),
+            entity.getCurrency(),
+            entity.getPaymentId(),
+            entity.getPaymentStatus(),
+            entity.getCreatedAt(),
+            entity.getUpdatedAt()
+        );
+    }
+}
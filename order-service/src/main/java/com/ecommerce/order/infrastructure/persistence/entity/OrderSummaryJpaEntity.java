@@ -0,0 +1,58 @@
+package com.ecommerce.order.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "order_summaries")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSummaryJpaEntity {
+
+    @Id
+    @Column(name = "order_id")
+    private UUID orderId;
+
+    @Column(name = "customer_id")
+    private UUID customerId;
+
+    @Column(length = 50)
+    private String status;
+
+    @Column(name = "item_count")
+    private Integer itemCount;
+
+    @Column(name = "first_product_name")
+    private String firstProductName;
+
+    @Column(precision = 19, scale = 4)
+    private BigDecimal total;
+
+    @Column(length = 3)
+    private String currency;
+
+    @Column(name = "payment_id")
+    private UUID paymentId;
+
+    @Column(name = "payment_status", length = 50)
+    private String paymentStatus;
+
+    @Column(name = "payment_event_at")
+    private Instant paymentEventAt;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @Column(name = "last_event_at")
+    private Instant lastEventAt;
+}
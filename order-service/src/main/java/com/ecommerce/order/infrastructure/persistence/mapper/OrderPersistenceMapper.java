@@ -1,5 +1,6 @@
 package com.ecommerce.order.infrastructure.persistence.mapper;
 
+import com.ecommerce.common.domain.Money;
 import com.ecommerce.order.domain.entity.Order;
 import com.ecommerce.order.domain.entity.OrderItem;
 import com.ecommerce.order.domain.valueobject.Address;
@@ -8,6 +9,7 @@ import com.ecommerce.order.infrastructure.persistence.entity.OrderItemJpaEntity;
 import com.ecommerce.order.infrastructure.persistence.entity.OrderJpaEntity;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.util.stream.Collectors;
 
 @Component
@@ -24,10 +26,10 @@ public class OrderPersistenceMapper {
             .shippingAddress(toEmbeddable(order.getShippingAddress()))
             .billingAddress(toEmbeddable(order.getBillingAddress()))
             .status(order.getStatus())
-            .subtotal(order.getSubtotal())
-            .tax(order.getTax())
-            .shippingCost(order.getShippingCost())
-            .total(order.getTotal())
+            .subtotal(toAmount(order.getSubtotal()))
+            .tax(toAmount(order.getTax()))
+            .shippingCost(toAmount(order.getShippingCost()))
+            .total(toAmount(order.getTotal()))
             .currency(order.getCurrency())
             .createdAt(order.getCreatedAt())
             .updatedAt(order.getUpdatedAt())
@@ -54,10 +56,10 @@ public class OrderPersistenceMapper {
             setField(order, "shippingAddress", toDomain(entity.getShippingAddress()));
             setField(order, "billingAddress", toDomain(entity.getBillingAddress()));
             setField(order, "status", entity.getStatus());
-            setField(order, "subtotal", entity.getSubtotal());
-            setField(order, "tax", entity.getTax());
-            setField(order, "shippingCost", entity.getShippingCost());
-            setField(order, "total", entity.getTotal());
+            setField(order, "subtotal", toMoney(entity.getSubtotal(), entity.getCurrency()));
+            setField(order, "tax", toMoney(entity.getTax(), entity.getCurrency()));
+            setField(order, "shippingCost", toMoney(entity.getShippingCost(), entity.getCurrency()));
+            setField(order, "total", toMoney(entity.getTotal(), entity.getCurrency()));
             setField(order, "currency", entity.getCurrency());
             setField(order, "createdAt", entity.getCreatedAt());
             setField(order, "updatedAt", entity.getUpdatedAt());
@@ -85,8 +87,8 @@ public class OrderPersistenceMapper {
             .productName(item.getProductName())
             .productSku(item.getProductSku())
             .quantity(item.getQuantity())
-            .unitPrice(item.getUnitPrice())
-            .totalPrice(item.getTotalPrice())
+            .unitPrice(toAmount(item.getUnitPrice()))
+            .totalPrice(toAmount(item.getTotalPrice()))
             .build();
     }
 
@@ -107,8 +109,9 @@ public class OrderPersistenceMapper {
             setField(item, "productName", entity.getProductName());
             setField(item, "productSku", entity.getProductSku());
             setField(item, "quantity", entity.getQuantity());
-            setField(item, "unitPrice", entity.getUnitPrice());
-            setField(item, "totalPrice", entity.getTotalPrice());
+            String currency = entity.getOrder() != null ? entity.getOrder().getCurrency() : null;
+            setField(item, "unitPrice", toMoney(entity.getUnitPrice(), currency));
+            setField(item, "totalPrice", toMoney(entity.getTotalPrice(), currency));
 
             return item;
         } catch (Exception e) {
@@ -116,6 +119,17 @@ public class OrderPersistenceMapper {
         }
     }
 
+    private BigDecimal toAmount(Money money) {
+        return money != null ? money.amount() : null;
+    }
+
+    private Money toMoney(BigDecimal amount, String currency) {
+        if (amount == null) {
+            return null;
+        }
+        return currency != null ? Money.of(amount, currency) : Money.of(amount);
+    }
+
     private void setField(Object target, String fieldName, Object value) {
         try {
             java.lang.reflect.Field field = target.getClass().getDeclaredField(fieldName);
@@ -5,7 +5,12 @@ import com.ecommerce.order.domain.valueobject.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, UUID> {
@@ -13,4 +18,61 @@ public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, UUID>
     Page<OrderJpaEntity> findByCustomerId(UUID customerId, Pageable pageable);
 
     Page<OrderJpaEntity> findByStatus(OrderStatus status, Pageable pageable);
+
+    @Query("SELECT DISTINCT o FROM OrderJpaEntity o LEFT JOIN FETCH o.items WHERE o.id IN :ids")
+    List<OrderJpaEntity> findAllWithItemsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Claims the oldest unclaimed PAID orders for a worker. Rows locked by a
+     * concurrent claim are skipped rather than waited on, so pickers never queue.
+     * Unclaimed orders and expired claims are read from separate partial indexes,
+     * so orders under a live claim are never scanned.
+     */
+    @Query(nativeQuery = true, value = """
+        WITH expired AS (
+            SELECT id, created_at FROM orders
+            WHERE status = 'PAID' AND claimed_at < :claimExpiredBefore
+            ORDER BY created_at ASC
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        ), unclaimed AS (
+            SELECT id, created_at FROM orders
+            WHERE status = 'PAID' AND claimed_at IS NULL
+            ORDER BY created_at ASC
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+        UPDATE orders SET claimed_by = :workerId, claimed_at = :now
+        WHERE id IN (
+            SELECT id FROM (
+                SELECT id, created_at FROM expired
+                UNION ALL
+                SELECT id, created_at FROM unclaimed
+            ) candidates
+            ORDER BY created_at ASC
+            LIMIT :limit
+        )
+        RETURNING id
+        """)
+    List<UUID> claimPaidOrders(@Param("workerId") String workerId,
+                               @Param("limit") int limit,
+                               @Param("now") Instant now,
+                               @Param("claimExpiredBefore") Instant claimExpiredBefore);
+
+    @Query(nativeQuery = true, value = """
+        UPDATE orders SET status = 'SHIPPED', updated_at = :now, claimed_by = NULL, claimed_at = NULL
+        WHERE id IN (:ids) AND status = 'PAID' AND claimed_by = :workerId
+        RETURNING id
+        """)
+    List<UUID> markClaimedOrdersShipped(@Param("workerId") String workerId,
+                                        @Param("ids") Collection<UUID> ids,
+                                        @Param("now") Instant now);
+
+    @Query(nativeQuery = true, value = """
+        UPDATE orders SET status = 'DELIVERED', updated_at = :now
+        WHERE id IN (:ids) AND status = 'SHIPPED'
+        RETURNING id
+        """)
+    List<UUID> markShippedOrdersDelivered(@Param("ids") Collection<UUID> ids,
+                                          @Param("now") Instant now);
 }
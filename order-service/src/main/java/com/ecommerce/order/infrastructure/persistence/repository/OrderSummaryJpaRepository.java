@@ -0,0 +1,96 @@
+package com.ecommerce.order.infrastructure.persistence.repository;
+
+import com.ecommerce.order.infrastructure.persistence.entity.OrderSummaryJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public interface OrderSummaryJpaRepository extends JpaRepository<OrderSummaryJpaEntity, UUID>,
+        JpaSpecificationExecutor<OrderSummaryJpaEntity> {
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        INSERT INTO order_summaries (order_id, customer_id, status, item_count, first_product_name,
+                                     total, currency, created_at, updated_at, last_event_at)
+        VALUES (:orderId, :customerId, :status, :itemCount, :firstProductName,
+                :total, :currency, :createdAt, :eventAt, :eventAt)
+        ON CONFLICT (order_id) DO UPDATE SET
+            customer_id = COALESCE(EXCLUDED.customer_id, order_summaries.customer_id),
+            status = COALESCE(EXCLUDED.status, order_summaries.status),
+            item_count = COALESCE(EXCLUDED.item_count, order_summaries.item_count),
+            first_product_name = COALESCE(EXCLUDED.first_product_name, order_summaries.first_product_name),
+            total = COALESCE(EXCLUDED.total, order_summaries.total),
+            currency = COALESCE(EXCLUDED.currency, order_summaries.currency),
+            created_at = COALESCE(order_summaries.created_at, EXCLUDED.created_at),
+            updated_at = EXCLUDED.updated_at,
+            last_event_at = EXCLUDED.last_event_at
+        WHERE order_summaries.last_event_at IS NULL OR order_summaries.last_event_at <= EXCLUDED.last_event_at
+        """)
+    int upsertOrder(@Param("orderId") UUID orderId,
+                    @Param("customerId") UUID customerId,
+                    @Param("status") String status,
+                    @Param("itemCount") Integer itemCount,
+                    @Param("firstProductName") String firstProductName,
+                    @Param("total") BigDecimal total,
+                    @Param("currency") String currency,
+                    @Param("createdAt") Instant createdAt,
+                    @Param("eventAt") Instant eventAt);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        INSERT INTO order_summaries (order_id, payment_id, payment_status, updated_at, payment_event_at)
+        VALUES (:orderId, :paymentId, :paymentStatus, :eventAt, :eventAt)
+        ON CONFLICT (order_id) DO UPDATE SET
+            payment_id = EXCLUDED.payment_id,
+            payment_status = EXCLUDED.payment_status,
+            updated_at = GREATEST(order_summaries.updated_at, EXCLUDED.updated_at),
+            payment_event_at = EXCLUDED.payment_event_at
+        WHERE order_summaries.payment_event_at IS NULL OR order_summaries.payment_event_at <= EXCLUDED.payment_event_at
+        """)
+    int upsertPayment(@Param("orderId") UUID orderId,
+                      @Param("paymentId") UUID paymentId,
+                      @Param("paymentStatus") String paymentStatus,
+                      @Param("eventAt") Instant eventAt);
+
+    /**
+     * Replays the order history into the read model with one set-based statement.
+     * Payment columns are kept, since payment history lives in payment-service.
+     * Line items carry no position, so the first product is the first name in code point
+     * order (the C collation), the same rule the event projection applies.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        INSERT INTO order_summaries (order_id, customer_id, status, item_count, first_product_name,
+                                     total, currency, created_at, updated_at, last_event_at)
+        SELECT o.id, o.customer_id, o.status, COUNT(i.id), MIN(i.product_name COLLATE "C"),
+               o.total, o.currency, o.created_at, o.updated_at, o.updated_at
+        FROM orders o
+        LEFT JOIN order_items i ON i.order_id = o.id
+        GROUP BY o.id
+        ON CONFLICT (order_id) DO UPDATE SET
+            customer_id = EXCLUDED.customer_id,
+            status = EXCLUDED.status,
+            item_count = EXCLUDED.item_count,
+            first_product_name = EXCLUDED.first_product_name,
+            total = EXCLUDED.total,
+            currency = EXCLUDED.currency,
+            created_at = EXCLUDED.created_at,
+            updated_at = EXCLUDED.updated_at,
+            last_event_at = EXCLUDED.last_event_at
+        """)
+    int rebuildFromOrders();
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        DELETE FROM order_summaries s
+        WHERE s.customer_id IS NOT NULL
+          AND NOT EXISTS (SELECT 1 FROM orders o WHERE o.id = s.order_id)
+        """)
+    int deleteOrphans();
+}
@@ -0,0 +1,63 @@
+package com.ecommerce.order.infrastructure.sharding;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound shard selection read by {@link ShardRoutingDataSource}.
+ * A transaction is pinned to the first shard it binds; binding a different
+ * shard in the same transaction is a programming error.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {}
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds the shard for the current transaction and clears it when the transaction completes.
+     */
+    public static void bind(int shard) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Shard binding requires an active transaction; use callOn instead");
+        }
+        Integer bound = CURRENT.get();
+        if (bound != null) {
+            if (bound != shard) {
+                throw new IllegalStateException(
+                    "Transaction is bound to shard " + bound + ", cannot switch to shard " + shard);
+            }
+            return;
+        }
+        CURRENT.set(shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                CURRENT.remove();
+            }
+        });
+    }
+
+    /**
+     * Runs the action with the shard bound, restoring the previous binding afterwards.
+     */
+    public static <T> T callOn(int shard, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
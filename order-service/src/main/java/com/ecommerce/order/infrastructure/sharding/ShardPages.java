@@ -0,0 +1,49 @@
+package com.ecommerce.order.infrastructure.sharding;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page arithmetic for scatter-gather: every shard returns its first
+ * offset + size rows in the requested order, which are merged and sliced.
+ */
+public final class ShardPages {
+
+    private ShardPages() {}
+
+    public static Pageable shardWindow(Pageable pageable) {
+        int window = (int) pageable.getOffset() + pageable.getPageSize();
+        return PageRequest.of(0, window, pageable.getSort());
+    }
+
+    /**
+     * Merges per-shard pages by creation time. A descending createdAt sort is
+     * honoured; any other sort merges by createdAt ascending.
+     */
+    public static <T> Page<T> mergeByCreatedAt(List<Page<T>> shardPages, Pageable pageable,
+                                               Function<T, Instant> createdAt) {
+        Comparator<T> comparator = Comparator.comparing(createdAt, Comparator.nullsLast(Comparator.naturalOrder()));
+        Sort.Order createdAtOrder = pageable.getSort().getOrderFor("createdAt");
+        if (createdAtOrder != null && createdAtOrder.isDescending()) {
+            comparator = comparator.reversed();
+        }
+
+        List<T> merged = shardPages.stream()
+            .flatMap(page -> page.getContent().stream())
+            .sorted(comparator)
+            .skip(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .toList();
+        long total = shardPages.stream().mapToLong(Page::getTotalElements).sum();
+
+        return new PageImpl<>(merged, pageable, total);
+    }
+}
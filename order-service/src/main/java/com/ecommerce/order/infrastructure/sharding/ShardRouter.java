@@ -0,0 +1,53 @@
+package com.ecommerce.order.infrastructure.sharding;
+
+import com.ecommerce.order.domain.valueobject.ShardBucket;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Resolves customers and orders to shards. Both go through the customer's
+ * bucket, so an order always lives on its customer's shard.
+ */
+@Component
+public class ShardRouter {
+
+    private final int shardCount;
+
+    public ShardRouter(ShardingProperties properties) {
+        this.shardCount = properties.isEnabled() ? properties.getShards().size() : 1;
+        if (shardCount < 1 || shardCount > ShardBucket.BUCKET_COUNT) {
+            throw new IllegalStateException("Shard count must be between 1 and " + ShardBucket.BUCKET_COUNT);
+        }
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public List<Integer> allShards() {
+        return IntStream.range(0, shardCount).boxed().toList();
+    }
+
+    public int shardForCustomer(UUID customerId) {
+        return ShardBucket.of(customerId) % shardCount;
+    }
+
+    public int shardForOrder(UUID orderId) {
+        return ShardBucket.fromOrderId(orderId) % shardCount;
+    }
+
+    public Map<Integer, List<UUID>> groupOrdersByShard(Collection<UUID> orderIds) {
+        Map<Integer, List<UUID>> groups = new LinkedHashMap<>();
+        for (UUID orderId : orderIds) {
+            groups.computeIfAbsent(shardForOrder(orderId), shard -> new ArrayList<>()).add(orderId);
+        }
+        return groups;
+    }
+}
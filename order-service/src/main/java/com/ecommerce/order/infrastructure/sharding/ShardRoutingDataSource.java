@@ -0,0 +1,20 @@
+package com.ecommerce.order.infrastructure.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Picks the shard bound in {@link ShardContext}. Every table, the order summary
+ * read model included, is sharded, so there is no default shard: access without
+ * a bound shard is a programming error and fails instead of landing on shard 0.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.current();
+        if (shard == null) {
+            throw new IllegalStateException("No shard bound for database access; use ShardContext or ShardedTransactions");
+        }
+        return shard;
+    }
+}
@@ -0,0 +1,89 @@
+package com.ecommerce.order.infrastructure.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs work in a transaction pinned to one shard, or fans it out to every shard
+ * in parallel for scatter-gather queries and per-shard background jobs.
+ */
+@Component
+@Slf4j
+public class ShardedTransactions {
+
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate writeTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+
+    public ShardedTransactions(ShardRouter shardRouter, PlatformTransactionManager transactionManager) {
+        this.shardRouter = shardRouter;
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    public <T> T inShard(int shard, Supplier<T> action) {
+        return ShardContext.callOn(shard, () -> writeTemplate.execute(status -> action.get()));
+    }
+
+    public <T> T readInShard(int shard, Supplier<T> action) {
+        return ShardContext.callOn(shard, () -> readOnlyTemplate.execute(status -> action.get()));
+    }
+
+    /**
+     * Runs the read-only query on every shard concurrently (one virtual thread each)
+     * and returns the per-shard results in shard order.
+     */
+    public <T> List<T> scatter(IntFunction<T> query) {
+        return fanOut(shard -> readInShard(shard, () -> query.apply(shard)));
+    }
+
+    /**
+     * Runs the action on every shard concurrently, each in its own read-write transaction.
+     */
+    public <T> List<T> forEachShard(IntFunction<T> action) {
+        return fanOut(shard -> inShard(shard, () -> action.apply(shard)));
+    }
+
+    private <T> List<T> fanOut(IntFunction<T> task) {
+        List<Integer> shards = shardRouter.allShards();
+        if (shards.size() == 1) {
+            return List.of(task.apply(shards.get(0)));
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int shard : shards) {
+                futures.add(executor.submit(() -> task.apply(shard)));
+            }
+
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during scatter-gather", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Shard query failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.ecommerce.order.infrastructure.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the single order datasource with one pool per shard behind a routing
+ * datasource. The lazy proxy defers fetching a physical connection until the
+ * first statement, so the shard can be chosen inside an open transaction.
+ * There is no default shard, so nothing at startup may touch the routing
+ * datasource unbound: each shard is migrated and validated explicitly instead.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "order.sharding", name = "enabled", havingValue = "true")
+@Slf4j
+public class ShardingDataSourceConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardingProperties properties) {
+        List<ShardingProperties.Shard> shards = properties.getShards();
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("order.sharding.enabled is true but no shards are configured");
+        }
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            DataSource shardDataSource = createShardDataSource(i, shards.get(i), properties.getMaxPoolSizePerShard());
+            migrate(i, shardDataSource);
+            targets.put(i, shardDataSource);
+        }
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.afterPropertiesSet();
+
+        // Given up front, the proxy does not open a connection to read them
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(routing);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        proxy.afterPropertiesSet();
+
+        log.info("Order sharding enabled with {} shards", shards.size());
+        return proxy;
+    }
+
+    /**
+     * Shards are migrated when the datasource is created; the auto-configured
+     * migration would run against the routing datasource with no shard bound.
+     */
+    @Bean
+    public FlywayMigrationStrategy shardedFlywayMigrationStrategy() {
+        return flyway -> log.debug("Skipping routed Flyway migration; shards are migrated individually");
+    }
+
+    /**
+     * Hibernate boots without JDBC metadata (the dialect is configured) and skips
+     * its own schema validation, which would run with no shard bound.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer shardedHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put("hibernate.boot.allow_jdbc_metadata_access", "false");
+            properties.put("hibernate.hbm2ddl.auto", "none");
+        };
+    }
+
+    /**
+     * Validates the mappings against every shard rather than an arbitrary one.
+     */
+    @Bean
+    public SmartInitializingSingleton shardSchemaValidator(EntityManagerFactory entityManagerFactory,
+                                                           ShardingProperties properties) {
+        return () -> {
+            var schemaManager = entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager();
+            for (int i = 0; i < properties.getShards().size(); i++) {
+                ShardContext.callOn(i, () -> {
+                    schemaManager.validateMappedObjects();
+                    return null;
+                });
+            }
+        };
+    }
+
+    private DataSource createShardDataSource(int index, ShardingProperties.Shard shard, int maxPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("order-shard-" + index);
+        dataSource.setJdbcUrl(shard.getUrl());
+        dataSource.setUsername(shard.getUsername());
+        dataSource.setPassword(shard.getPassword());
+        dataSource.setMaximumPoolSize(maxPoolSize);
+        if (shard.getSchema() != null) {
+            dataSource.setSchema(shard.getSchema());
+        }
+        return dataSource;
+    }
+
+    /**
+     * Every shard carries the full order schema, so each is migrated on startup
+     * before Hibernate validates the mappings.
+     */
+    private void migrate(int index, DataSource dataSource) {
+        var configuration = Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration");
+        if (dataSource instanceof HikariDataSource hikari && hikari.getSchema() != null) {
+            configuration.schemas(hikari.getSchema());
+        }
+        int applied = configuration.load().migrate().migrationsExecuted;
+        log.info("Migrated order shard {}: {} migrations applied", index, applied);
+    }
+}
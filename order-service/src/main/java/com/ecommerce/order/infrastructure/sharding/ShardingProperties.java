@@ -0,0 +1,35 @@
+package com.ecommerce.order.infrastructure.sharding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.sharding")
+public class ShardingProperties {
+
+    /**
+     * When disabled the service uses the single spring.datasource as shard 0.
+     */
+    private boolean enabled = false;
+
+    private int maxPoolSizePerShard = 10;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        /**
+         * Optional schema, so several shards can share one local Postgres for testing.
+         */
+        private String schema;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ecommerce.order.interfaces.rest;
+
+import com.ecommerce.order.application.dto.BulkTransitionResult;
+import com.ecommerce.order.application.dto.ClaimOrdersRequest;
+import com.ecommerce.order.application.dto.DeliverOrdersRequest;
+import com.ecommerce.order.application.dto.OrderDto;
+import com.ecommerce.order.application.dto.ShipOrdersRequest;
+import com.ecommerce.order.application.service.FulfillmentApplicationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/fulfillment")
+@Tag(name = "Fulfillment", description = "Warehouse worklist endpoints")
+@RequiredArgsConstructor
+public class FulfillmentController {
+
+    private final FulfillmentApplicationService fulfillmentService;
+
+    @PostMapping("/claims")
+    @Operation(summary = "Claim the next paid orders for picking")
+    public ResponseEntity<List<OrderDto>> claimOrders(@Valid @RequestBody ClaimOrdersRequest request) {
+        return ResponseEntity.ok(fulfillmentService.claimOrders(request));
+    }
+
+    @PostMapping("/shipments")
+    @Operation(summary = "Confirm shipment of claimed orders in bulk")
+    public ResponseEntity<BulkTransitionResult> shipOrders(@Valid @RequestBody ShipOrdersRequest request) {
+        return ResponseEntity.ok(fulfillmentService.shipOrders(request));
+    }
+
+    @PostMapping("/deliveries")
+    @Operation(summary = "Confirm delivery of shipped orders in bulk")
+    public ResponseEntity<BulkTransitionResult> deliverOrders(@Valid @RequestBody DeliverOrdersRequest request) {
+        return ResponseEntity.ok(fulfillmentService.deliverOrders(request));
+    }
+}
@@ -3,16 +3,28 @@ package com.ecommerce.order.interfaces.rest;
 import com.ecommerce.order.application.dto.CreateOrderRequest;
 import com.ecommerce.order.application.dto.OrderDto;
 import com.ecommerce.order.application.service.OrderApplicationService;
+import com.ecommerce.order.application.service.OrderSummaryService;
+import com.ecommerce.order.domain.readmodel.OrderSummary;
+import com.ecommerce.order.domain.readmodel.OrderSummaryFilter;
+import com.ecommerce.order.domain.valueobject.OrderStatus;
+import com.ecommerce.order.infrastructure.messaging.OrderStatusBroadcaster;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -22,6 +34,8 @@ import java.util.UUID;
 public class OrderController {
 
     private final OrderApplicationService orderService;
+    private final OrderStatusBroadcaster statusBroadcaster;
+    private final OrderSummaryService summaryService;
 
     @PostMapping
     @Operation(summary = "Create a new order")
@@ -37,13 +51,45 @@ public class OrderController {
         return ResponseEntity.ok(order);
     }
 
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream order status changes as server-sent events")
+    public SseEmitter streamOrderStatus(@PathVariable UUID id) {
+        return statusBroadcaster.subscribe(id, () -> orderService.getOrderStatus(id));
+    }
+
     @GetMapping("/customer/{customerId}")
     @Operation(summary = "Get orders by customer")
-    public ResponseEntity<Page<OrderDto>> getCustomerOrders(
+    public ResponseEntity<Page<OrderSummary>> getCustomerOrders(
             @PathVariable UUID customerId,
-            Pageable pageable) {
-        // TODO: Implement with OrderService
-        return ResponseEntity.ok().build();
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        OrderSummaryFilter filter = new OrderSummaryFilter(customerId, null, null, null);
+        return ResponseEntity.ok(summaryService.search(filter, pageable));
+    }
+
+    @GetMapping("/status/{status}")
+    @Operation(summary = "Get orders by status across all shards (admin)")
+    public ResponseEntity<Page<OrderDto>> getOrdersByStatus(
+            @PathVariable OrderStatus status,
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(orderService.getOrdersByStatus(status, pageable));
+    }
+
+    @GetMapping("/summaries")
+    @Operation(summary = "Search order summaries by customer, status and creation date")
+    public ResponseEntity<Page<OrderSummary>> searchOrderSummaries(
+            @RequestParam(required = false) UUID customerId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        OrderSummaryFilter filter = new OrderSummaryFilter(customerId, status, from, to);
+        return ResponseEntity.ok(summaryService.search(filter, pageable));
+    }
+
+    @PostMapping("/summaries/rebuild")
+    @Operation(summary = "Rebuild the order summary read model from order history")
+    public ResponseEntity<Map<String, Integer>> rebuildOrderSummaries() {
+        return ResponseEntity.ok(Map.of("rebuilt", summaryService.rebuild()));
     }
 
     @PostMapping("/{id}/confirm")
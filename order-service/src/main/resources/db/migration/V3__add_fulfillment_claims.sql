@@ -0,0 +1,10 @@
+-- Fulfillment worklist claims
+-- V3__add_fulfillment_claims.sql
+
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(100);
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS claimed_at TIMESTAMP WITH TIME ZONE;
+
+-- Partial index for the worklist: only PAID orders, in FIFO order.
+-- Keeps the claim query an index range scan regardless of order history size.
+CREATE INDEX idx_orders_paid_worklist ON orders(created_at)
+    WHERE status = 'PAID';
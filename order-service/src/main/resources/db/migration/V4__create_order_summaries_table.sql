@@ -0,0 +1,31 @@
+-- Order summary read model (CQRS query side)
+-- V4__create_order_summaries_table.sql
+--
+-- Denormalized one-row-per-order view for listing and search screens.
+-- Maintained asynchronously from the order-events and payment-events topics;
+-- columns are nullable because payment events may arrive before ORDER_CREATED.
+
+CREATE TABLE IF NOT EXISTS order_summaries (
+    order_id UUID PRIMARY KEY,
+    customer_id UUID,
+    status VARCHAR(50),
+    item_count INTEGER,
+    first_product_name VARCHAR(255),
+    total DECIMAL(19, 4),
+    currency VARCHAR(3),
+    payment_id UUID,
+    payment_status VARCHAR(50),
+    payment_event_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    last_event_at TIMESTAMP WITH TIME ZONE
+);
+
+-- Customer order history, newest first
+CREATE INDEX idx_order_summaries_customer ON order_summaries(customer_id, created_at DESC);
+
+-- Back-office filtering by status, newest first
+CREATE INDEX idx_order_summaries_status ON order_summaries(status, created_at DESC);
+
+-- Date range filters
+CREATE INDEX idx_order_summaries_created ON order_summaries(created_at DESC);
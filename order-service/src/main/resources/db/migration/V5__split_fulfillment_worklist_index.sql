@@ -0,0 +1,16 @@
+-- Fulfillment worklist indexes that skip live claims
+-- V5__split_fulfillment_worklist_index.sql
+--
+-- Claimed orders stay PAID until shipped, so idx_orders_paid_worklist made every
+-- claim scan past all rows still under a lease. A partial index cannot name the
+-- lease cutoff (it depends on now()), so the worklist is split in two:
+-- unclaimed orders in FIFO order, and claimed orders by claim time so only
+-- expired leases are range-scanned.
+
+DROP INDEX IF EXISTS idx_orders_paid_worklist;
+
+CREATE INDEX idx_orders_paid_unclaimed ON orders(created_at)
+    WHERE status = 'PAID' AND claimed_at IS NULL;
+
+CREATE INDEX idx_orders_paid_claimed ON orders(claimed_at)
+    WHERE status = 'PAID' AND claimed_at IS NOT NULL;
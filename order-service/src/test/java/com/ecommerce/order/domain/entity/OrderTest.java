@@ -0,0 +1,121 @@
+package com.ecommerce.order.domain.entity;
+
+import com.ecommerce.common.domain.Money;
+import com.ecommerce.order.domain.valueobject.Address;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderTest {
+
+    private static final Address ADDRESS = new Address("1 Main St", "Springfield", "IL", "62701", "US");
+
+    @Test
+    void shouldMatchBigDecimalTotalsForLargeBaskets() {
+        Random random = new Random(42);
+
+        for (int itemCount : new int[]{1, 10, 100, 1000}) {
+            // Given
+            Order order = Order.create(UUID.randomUUID(), ADDRESS, ADDRESS);
+            List<BigDecimal> lineTotals = new ArrayList<>();
+
+            // When
+            for (int i = 0; i < itemCount; i++) {
+                BigDecimal unitPrice = BigDecimal.valueOf(1 + random.nextInt(500_000), 2);
+                int quantity = 1 + random.nextInt(20);
+                order.addItem(OrderItem.create(UUID.randomUUID(), "Product " + i, "SKU-" + i, quantity, Money.of(unitPrice)));
+                lineTotals.add(unitPrice.multiply(BigDecimal.valueOf(quantity)));
+            }
+            order.setShippingCost(Money.of(new BigDecimal("10.00")));
+
+            // Then: same values as the previous BigDecimal recalculation
+            BigDecimal subtotal = lineTotals.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal tax = subtotal.multiply(new BigDecimal("0.10"));
+            BigDecimal total = subtotal.add(tax).add(new BigDecimal("10.00"));
+
+            assertThat(order.getSubtotal().amount()).isEqualByComparingTo(subtotal);
+            assertThat(order.getTax().amount()).isEqualByComparingTo(tax);
+            assertThat(order.getTotal().amount()).isEqualByComparingTo(total);
+        }
+    }
+
+    @Test
+    void shouldBuildLargeBasketFasterThanBigDecimalRecalculation() {
+        // Given: the same 1000-item basket for both paths
+        Random random = new Random(7);
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            BigDecimal unitPrice = BigDecimal.valueOf(1 + random.nextInt(500_000), 2);
+            items.add(OrderItem.create(UUID.randomUUID(), "Product " + i, "SKU-" + i, 1 + random.nextInt(20), Money.of(unitPrice)));
+        }
+        List<BigDecimal> lineTotals = items.stream().map(item -> item.getTotalPrice().amount()).toList();
+
+        // When: best of several runs after warm-up
+        long moneyNanos = bestOf(() -> buildOrder(items));
+        long bigDecimalNanos = bestOf(() -> recalculateWithBigDecimal(lineTotals));
+
+        // Then
+        assertThat(moneyNanos).isLessThan(bigDecimalNanos);
+    }
+
+    @Test
+    void shouldMaintainTotalsIncrementallyOnRemove() {
+        // Given
+        Order order = Order.create(UUID.randomUUID(), ADDRESS, ADDRESS);
+        UUID removedProduct = UUID.randomUUID();
+        order.addItem(OrderItem.create(UUID.randomUUID(), "Kept", "SKU-1", 3, Money.of(new BigDecimal("19.99"))));
+        order.addItem(OrderItem.create(removedProduct, "Removed", "SKU-2", 2, Money.of(new BigDecimal("5.25"))));
+
+        // When
+        order.removeItem(removedProduct);
+
+        // Then
+        assertThat(order.getItems()).hasSize(1);
+        assertThat(order.getSubtotal().amount()).isEqualByComparingTo("59.97");
+        assertThat(order.getTax().amount()).isEqualByComparingTo("5.997");
+        assertThat(order.getTotal().amount()).isEqualByComparingTo("65.967");
+    }
+
+    private static BigDecimal buildOrder(List<OrderItem> items) {
+        Order order = Order.create(UUID.randomUUID(), ADDRESS, ADDRESS);
+        for (OrderItem item : items) {
+            order.addItem(item);
+        }
+        return order.getTotal().amount();
+    }
+
+    // The previous Order.recalculateTotals(): re-sum every line on each addItem
+    private static BigDecimal recalculateWithBigDecimal(List<BigDecimal> lineTotals) {
+        List<BigDecimal> added = new ArrayList<>();
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal lineTotal : lineTotals) {
+            added.add(lineTotal);
+            BigDecimal subtotal = added.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal tax = subtotal.multiply(new BigDecimal("0.10"));
+            total = subtotal.add(tax);
+        }
+        return total;
+    }
+
+    private static long bestOf(Supplier<BigDecimal> basket) {
+        BigDecimal sink = BigDecimal.ZERO;
+        for (int i = 0; i < 20; i++) {
+            sink = sink.add(basket.get());
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 20; i++) {
+            long start = System.nanoTime();
+            sink = sink.add(basket.get());
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        assertThat(sink).isPositive();
+        return best;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ecommerce.order.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardBucketTest {
+
+    @Test
+    void shouldStampCustomerBucketIntoOrderId() {
+        for (int i = 0; i < 1_000; i++) {
+            // Given
+            UUID customerId = UUID.randomUUID();
+
+            // When
+            UUID orderId = ShardBucket.newOrderId(customerId);
+
+            // Then
+            assertThat(ShardBucket.fromOrderId(orderId)).isEqualTo(ShardBucket.of(customerId));
+            assertThat(orderId.version()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void shouldSpreadSequentialCustomerIdsAcrossBuckets() {
+        // Given
+        int[] counts = new int[4];
+
+        // When
+        for (long i = 0; i < 40_000; i++) {
+            counts[ShardBucket.of(new UUID(0, i)) % counts.length]++;
+        }
+
+        // Then: each of four shards gets within 5% of an even share
+        for (int count : counts) {
+            assertThat(count).isBetween(9_500, 10_500);
+        }
+    }
+}
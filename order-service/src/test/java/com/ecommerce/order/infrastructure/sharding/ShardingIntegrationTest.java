@@ -0,0 +1,236 @@
+package com.ecommerce.order.infrastructure.sharding;
+
+import com.ecommerce.common.domain.Money;
+import com.ecommerce.order.domain.entity.Order;
+import com.ecommerce.order.domain.entity.OrderItem;
+import com.ecommerce.order.domain.readmodel.OrderSummary;
+import com.ecommerce.order.domain.readmodel.OrderSummaryFilter;
+import com.ecommerce.order.domain.repository.OrderRepository;
+import com.ecommerce.order.domain.repository.OrderSummaryRepository;
+import com.ecommerce.order.domain.valueobject.Address;
+import com.ecommerce.order.domain.valueobject.OrderStatus;
+import com.ecommerce.order.infrastructure.persistence.adapter.OrderRepositoryAdapter;
+import com.ecommerce.order.infrastructure.persistence.adapter.OrderSummaryRepositoryAdapter;
+import com.ecommerce.order.infrastructure.persistence.mapper.OrderPersistenceMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Two shards as two schemas of one Postgres. Tests run without the test-managed
+ * transaction so every shard binding is made by the code under test.
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnableConfigurationProperties(ShardingProperties.class)
+@Import({ShardingDataSourceConfig.class, ShardRouter.class, ShardedTransactions.class,
+        OrderRepositoryAdapter.class, OrderPersistenceMapper.class, OrderSummaryRepositoryAdapter.class})
+class ShardingIntegrationTest {
+
+    private static final Address ADDRESS = new Address("1 Main St", "Springfield", "IL", "62701", "US");
+    private static final List<String> SCHEMAS = List.of("shard_0", "shard_1");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgres:16-alpine")
+    );
+
+    @DynamicPropertySource
+    static void shards(DynamicPropertyRegistry registry) {
+        registry.add("order.sharding.enabled", () -> "true");
+        for (int i = 0; i < SCHEMAS.size(); i++) {
+            String shard = "order.sharding.shards[" + i + "].";
+            String schema = SCHEMAS.get(i);
+            registry.add(shard + "url", postgres::getJdbcUrl);
+            registry.add(shard + "username", postgres::getUsername);
+            registry.add(shard + "password", postgres::getPassword);
+            registry.add(shard + "schema", () -> schema);
+        }
+    }
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSummaryRepository summaryRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardedTransactions shardedTransactions;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        for (String schema : SCHEMAS) {
+            jdbc.execute("TRUNCATE " + schema + ".order_items, " + schema + ".orders, "
+                    + schema + ".order_summaries CASCADE");
+        }
+    }
+
+    @Test
+    void shouldWriteOrderToTheShardOfItsCustomer() {
+        // Given
+        UUID customerOnShard0 = customerOnShard(0);
+        UUID customerOnShard1 = customerOnShard(1);
+
+        // When
+        Order first = save(customerOnShard0);
+        Order second = save(customerOnShard1);
+
+        // Then
+        assertThat(shardRouter.shardForOrder(first.getId())).isEqualTo(0);
+        assertThat(shardRouter.shardForOrder(second.getId())).isEqualTo(1);
+        assertThat(countOrders("shard_0", first.getId())).isEqualTo(1);
+        assertThat(countOrders("shard_1", first.getId())).isZero();
+        assertThat(countOrders("shard_0", second.getId())).isZero();
+        assertThat(countOrders("shard_1", second.getId())).isEqualTo(1);
+        assertThat(inTransaction(() -> orderRepository.findById(second.getId()))).isPresent();
+    }
+
+    @Test
+    void shouldMergeAndPaginateOrdersAcrossShards() {
+        // Given: orders interleaved across both shards
+        List<Order> saved = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            saved.add(save(customerOnShard(i % 2)));
+        }
+        List<UUID> newestFirst = saved.stream()
+                .sorted(Comparator.comparing(Order::getCreatedAt).reversed())
+                .map(Order::getId)
+                .toList();
+
+        // When
+        Page<Order> page = orderRepository.findByStatus(OrderStatus.CONFIRMED,
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting(Order::getId).containsExactlyElementsOf(newestFirst.subList(2, 4));
+    }
+
+    @Test
+    void shouldScatterStatusSearchAndRouteCustomerSearchToOneShard() {
+        // Given: summaries on both shards with known creation times
+        Instant base = Instant.parse("2024-01-01T00:00:00Z");
+        UUID customer = customerOnShard(1);
+        List<UUID> newestFirst = new ArrayList<>();
+        for (int i = 5; i >= 0; i--) {
+            UUID customerId = i == 0 ? customer : customerOnShard(i % 2);
+            UUID orderId = save(customerId).getId();
+            Instant createdAt = base.plusSeconds(i);
+            inTransaction(() -> {
+                summaryRepository.applyOrderEvent(orderId, customerId, "CONFIRMED", 1, "Product", BigDecimal.TEN,
+                        "USD", createdAt, createdAt);
+                return null;
+            });
+            newestFirst.add(orderId);
+        }
+
+        // When
+        Page<OrderSummary> byStatus = summaryRepository.search(
+                new OrderSummaryFilter(null, "CONFIRMED", null, null),
+                PageRequest.of(1, 4, Sort.by(Sort.Direction.DESC, "createdAt")));
+        Page<OrderSummary> byCustomer = summaryRepository.search(
+                new OrderSummaryFilter(customer, null, null, null),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        // Then
+        assertThat(byStatus.getTotalElements()).isEqualTo(6);
+        assertThat(byStatus.getContent()).extracting(OrderSummary::orderId)
+                .containsExactlyElementsOf(newestFirst.subList(4, 6));
+        assertThat(byCustomer.getContent()).extracting(OrderSummary::orderId)
+                .containsExactly(newestFirst.get(5));
+    }
+
+    @Test
+    void shouldClearShardBindingAfterShardedTransactions() {
+        // When
+        Integer boundInside = shardedTransactions.inShard(1, ShardContext::current);
+        List<Integer> scattered = shardedTransactions.scatter(shard -> ShardContext.current());
+        Integer boundByRepository = inTransaction(() -> {
+            orderRepository.findById(save(customerOnShard(1)).getId());
+            return ShardContext.current();
+        });
+
+        // Then
+        assertThat(boundInside).isEqualTo(1);
+        assertThat(scattered).containsExactly(0, 1);
+        assertThat(boundByRepository).isEqualTo(1);
+        assertThat(ShardContext.current()).isNull();
+    }
+
+    @Test
+    void shouldRejectDatabaseAccessWithoutABoundShard() {
+        JdbcTemplate routed = new JdbcTemplate(dataSource);
+
+        assertThatThrownBy(() -> routed.queryForObject("SELECT COUNT(*) FROM orders", Integer.class))
+                .hasStackTraceContaining("No shard bound");
+    }
+
+    private Order save(UUID customerId) {
+        Order order = Order.create(customerId, ADDRESS, ADDRESS);
+        order.addItem(OrderItem.create(UUID.randomUUID(), "Product", "SKU-1", 1, Money.of(new BigDecimal("9.99"))));
+        order.confirm();
+        return inTransaction(() -> orderRepository.save(order));
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private UUID customerOnShard(int shard) {
+        UUID customerId;
+        do {
+            customerId = UUID.randomUUID();
+        } while (shardRouter.shardForCustomer(customerId) != shard);
+        return customerId;
+    }
+
+    private int countOrders(String schema, UUID orderId) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + schema + ".orders WHERE id = ?", Integer.class, orderId);
+    }
+}
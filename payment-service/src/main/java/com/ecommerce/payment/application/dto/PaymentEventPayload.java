@@ -3,6 +3,7 @@ package com.ecommerce.payment.application.dto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.UUID;
 
 public record PaymentEventPayload(
@@ -14,5 +15,6 @@ public record PaymentEventPayload(
     @JsonProperty("status") String status,
     @JsonProperty("transactionId") String transactionId,
     @JsonProperty("failureReason") String failureReason,
+    @JsonProperty("timestamp") Instant timestamp,
     @JsonProperty("eventType") String eventType
 ) {}
@@ -8,6 +8,7 @@ import org.mapstruct.Mapping;
 @Mapper(componentModel = "spring")
 public interface PaymentApplicationMapper {
 
+    @Mapping(target = "timestamp", source = "updatedAt")
     @Mapping(target = "eventType", ignore = true)
     PaymentEventPayload toPaymentEventPayload(Payment payment);
 }
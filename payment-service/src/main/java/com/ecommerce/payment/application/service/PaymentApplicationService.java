@@ -90,6 +90,7 @@ public class PaymentApplicationService {
             payload.status(),
             payload.transactionId(),
             payload.failureReason(),
+            payload.timestamp(),
             eventType
         );
 
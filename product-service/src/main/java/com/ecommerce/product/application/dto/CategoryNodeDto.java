@@ -0,0 +1,17 @@
+package com.ecommerce.product.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A category with its subtree. {@code subtreeProductCount} includes products in all
+ * descendants and may trail recent product changes by up to a minute.
+ */
+public record CategoryNodeDto(
+        UUID id,
+        String name,
+        UUID parentId,
+        long productCount,
+        long subtreeProductCount,
+        List<CategoryNodeDto> children
+) {}
@@ -0,0 +1,16 @@
+package com.ecommerce.product.application.dto;
+
+import jakarta.validation.constraints.*;
+
+import java.util.UUID;
+
+public record CreateCategoryRequest(
+        @NotBlank(message = "Name is required")
+        @Size(max = 255, message = "Name must be less than 255 characters")
+        String name,
+
+        @Size(max = 2000, message = "Description must be less than 2000 characters")
+        String description,
+
+        UUID parentId
+) {}
@@ -0,0 +1,12 @@
+package com.ecommerce.product.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ProductBatchRequest(
+        @NotEmpty(message = "At least one product ID is required")
+        List<@NotNull UUID> ids
+) {}
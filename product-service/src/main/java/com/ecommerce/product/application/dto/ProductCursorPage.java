@@ -0,0 +1,11 @@
+package com.ecommerce.product.application.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is null on the last page.
+ */
+public record ProductCursorPage(
+        List<ProductSummaryDto> items,
+        String nextCursor
+) {}
@@ -0,0 +1,18 @@
+package com.ecommerce.product.application.dto;
+
+import com.ecommerce.product.domain.valueobject.ProductStatus;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Matching products per facet value. Each facet is counted under the other facets'
+ * filters but not its own, so the counts show what selecting another value would give.
+ */
+public record ProductFacetCounts(
+        Map<UUID, Integer> categories,
+        Map<ProductStatus, Integer> statuses,
+        Map<String, Integer> priceBands,
+        int inStock,
+        int outOfStock
+) {}
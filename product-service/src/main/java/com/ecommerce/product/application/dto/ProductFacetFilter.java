@@ -0,0 +1,23 @@
+package com.ecommerce.product.application.dto;
+
+import com.ecommerce.product.domain.valueobject.ProductStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Selected facet values: values of one facet are alternatives, facets combine with AND.
+ * An empty list or a null {@code inStock} leaves that facet unfiltered.
+ */
+public record ProductFacetFilter(
+        List<UUID> categoryIds,
+        List<ProductStatus> statuses,
+        List<String> priceBands,
+        Boolean inStock
+) {
+    public ProductFacetFilter {
+        categoryIds = categoryIds == null ? List.of() : List.copyOf(categoryIds);
+        statuses = statuses == null ? List.of() : List.copyOf(statuses);
+        priceBands = priceBands == null ? List.of() : List.copyOf(priceBands);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ecommerce.product.application.dto;
+
+import java.util.List;
+
+public record ProductFacetPage(
+        List<ProductSummaryDto> items,
+        int totalElements,
+        ProductFacetCounts facets
+) {}
@@ -0,0 +1,26 @@
+package com.ecommerce.product.application.dto;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cached form of a product page: only the product IDs in page order and the total.
+ * The products themselves are hydrated from the per-product cache.
+ */
+public record ProductIdPage(
+        List<UUID> ids,
+        long totalElements
+) {
+
+    public static ProductIdPage of(Page<ProductSummaryDto> page) {
+        return new ProductIdPage(page.getContent().stream().map(ProductSummaryDto::id).toList(), page.getTotalElements());
+    }
+
+    public <T> Page<T> toPage(List<T> content, Pageable pageable) {
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+}
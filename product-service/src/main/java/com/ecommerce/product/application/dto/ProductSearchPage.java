@@ -0,0 +1,11 @@
+package com.ecommerce.product.application.dto;
+
+import java.util.List;
+
+/**
+ * One page of search results. {@code nextCursor} is null on the last page.
+ */
+public record ProductSearchPage(
+        List<ProductDto> items,
+        String nextCursor
+) {}
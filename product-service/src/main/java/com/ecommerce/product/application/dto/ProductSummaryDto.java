@@ -0,0 +1,26 @@
+package com.ecommerce.product.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * A product as listing pages show it: no description or timestamps. Responses can
+ * be narrowed further with a {@code fields=} sparse fieldset.
+ */
+@JsonFilter(ProductSummaryDto.FIELDS_FILTER)
+public record ProductSummaryDto(
+        UUID id,
+        String name,
+        String sku,
+        BigDecimal price,
+        String currency,
+        Integer stockQuantity,
+        UUID categoryId,
+        String status,
+        boolean available
+) {
+
+    public static final String FIELDS_FILTER = "productSummaryFields";
+}
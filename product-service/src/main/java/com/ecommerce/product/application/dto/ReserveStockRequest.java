@@ -0,0 +1,23 @@
+package com.ecommerce.product.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ReserveStockRequest(
+        @NotEmpty(message = "At least one item is required")
+        List<@Valid Item> items
+) {
+
+    public record Item(
+            @NotNull(message = "Product ID is required")
+            UUID productId,
+
+            @Min(value = 1, message = "Quantity must be at least 1")
+            int quantity
+    ) {}
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.product.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+public record StockDeltaRequest(
+        @NotEmpty(message = "At least one delta is required")
+        List<@Valid Item> deltas
+) {
+
+    public record Item(
+            @NotNull(message = "Product ID is required")
+            UUID productId,
+
+            int delta
+    ) {}
+}
@@ -0,0 +1,11 @@
+package com.ecommerce.product.application.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record StockHoldResult(
+        UUID holdId,
+        Instant expiresAt,
+        List<StockReservationResult> items
+) {}
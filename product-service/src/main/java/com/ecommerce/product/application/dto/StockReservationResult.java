@@ -0,0 +1,8 @@
+package com.ecommerce.product.application.dto;
+
+import java.util.UUID;
+
+public record StockReservationResult(
+        UUID productId,
+        int remainingStock
+) {}
@@ -0,0 +1,86 @@
+package com.ecommerce.product.application.service;
+
+import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.common.exception.ResourceNotFoundException;
+import com.ecommerce.product.application.dto.CategoryNodeDto;
+import com.ecommerce.product.application.dto.CreateCategoryRequest;
+import com.ecommerce.product.domain.entity.Category;
+import com.ecommerce.product.domain.repository.CategoryRepository;
+import com.ecommerce.product.domain.repository.ProductRepository;
+import com.ecommerce.product.domain.valueobject.CategoryTree;
+import com.ecommerce.product.infrastructure.cache.CategoryTreeCache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Transactional
+public class CategoryService {
+
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final CategoryTreeCache categoryTree;
+
+    public CategoryService(CategoryRepository categoryRepository,
+                           ProductRepository productRepository,
+                           CategoryTreeCache categoryTree) {
+        this.categoryRepository = categoryRepository;
+        this.productRepository = productRepository;
+        this.categoryTree = categoryTree;
+    }
+
+    public CategoryNodeDto createCategory(CreateCategoryRequest request) {
+        Category category;
+        if (request.parentId() == null) {
+            category = Category.create(request.name(), request.description());
+        } else {
+            categoryRepository.findById(request.parentId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Category", "id", request.parentId()));
+            category = Category.createWithParent(request.name(), request.description(), request.parentId());
+        }
+
+        category = categoryRepository.save(category);
+        categoryTree.categoriesChanged();
+        return new CategoryNodeDto(category.getId(), category.getName(), category.getParentId(), 0, 0, List.of());
+    }
+
+    /**
+     * Only empty categories can be deleted: no subcategories and no products.
+     */
+    public void deleteCategory(UUID id) {
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Category", "id", id));
+        if (!categoryRepository.findByParentId(id).isEmpty() || productRepository.existsByCategoryId(id)) {
+            throw new BusinessException("CATEGORY_NOT_EMPTY", "Category still has subcategories or products");
+        }
+
+        categoryRepository.delete(category);
+        categoryTree.categoriesChanged();
+    }
+
+    /**
+     * The whole hierarchy from memory; no database access.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<CategoryNodeDto> getCategoryTree() {
+        CategoryTree tree = categoryTree.get();
+        return tree.roots().stream().map(root -> toDto(tree, root)).toList();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CategoryNodeDto getCategorySubtree(UUID id) {
+        CategoryTree tree = categoryTree.get();
+        return tree.find(id)
+                .map(node -> toDto(tree, node))
+                .orElseThrow(() -> new ResourceNotFoundException("Category", "id", id));
+    }
+
+    private static CategoryNodeDto toDto(CategoryTree tree, CategoryTree.Node node) {
+        return new CategoryNodeDto(node.id(), node.name(), node.parentId(), node.productCount(),
+                node.subtreeProductCount(),
+                tree.children(node).stream().map(child -> toDto(tree, child)).toList());
+    }
+}
@@ -1,21 +1,63 @@
 package com.ecommerce.product.application.service;
 
+import com.ecommerce.common.domain.Money;
 import com.ecommerce.common.exception.BusinessException;
 import com.ecommerce.common.exception.ResourceNotFoundException;
 import com.ecommerce.product.application.dto.*;
 import com.ecommerce.product.domain.entity.Product;
 import com.ecommerce.product.domain.event.ProductCreatedEvent;
+import com.ecommerce.product.domain.event.ProductDeletedEvent;
+import com.ecommerce.product.domain.event.ProductUpdatedEvent;
 import com.ecommerce.product.domain.repository.ProductRepository;
-import com.ecommerce.product.domain.valueobject.Money;
-import org.springframework.cache.annotation.CacheEvict;
+import com.ecommerce.product.domain.repository.StockHoldRepository;
+import com.ecommerce.product.domain.valueobject.CategoryTree;
+import com.ecommerce.product.domain.valueobject.ProductListingKey;
+import com.ecommerce.product.domain.valueobject.ProductSearchHit;
+import com.ecommerce.product.domain.valueobject.ProductSort;
+import com.ecommerce.product.domain.valueobject.ProductSummary;
+import com.ecommerce.product.infrastructure.cache.CategoryTreeCache;
+import com.ecommerce.product.infrastructure.cache.MultiGetCache;
+import com.ecommerce.product.infrastructure.cache.ProductCacheEvictor;
+import com.ecommerce.product.infrastructure.cache.ProductIdFilter;
+import com.ecommerce.product.infrastructure.cache.ProductListCacheVersions;
+import com.ecommerce.product.infrastructure.cache.ProductMissCache;
+import com.ecommerce.product.infrastructure.inventory.HotInventory;
+import com.ecommerce.product.infrastructure.inventory.HotInventory.StockChange;
+import com.ecommerce.product.infrastructure.inventory.StockDeltaBuffer;
+import com.ecommerce.product.infrastructure.search.ProductFacetIndex;
+import com.ecommerce.product.infrastructure.search.ProductIndexer;
+import com.ecommerce.product.infrastructure.search.ProductPopularity;
+import com.ecommerce.product.infrastructure.search.ProductSearchIndex;
+import com.ecommerce.product.infrastructure.search.ProductSuggester;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static com.ecommerce.product.infrastructure.config.CacheConfig.PRODUCT_CACHE;
 import static com.ecommerce.product.infrastructure.config.CacheConfig.PRODUCT_LIST_CACHE;
@@ -24,15 +66,77 @@ import static com.ecommerce.product.infrastructure.config.CacheConfig.PRODUCT_LI
 @Transactional
 public class ProductService {
 
+    private static final int MAX_STOCK_SLOTS = 64;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_FUZZY_SEARCH_DEPTH = 1000;
+    private static final int MAX_SUGGEST_PREFIX_LENGTH = 100;
+    private static final int MAX_SUGGESTIONS = 20;
+
     private final ProductRepository productRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final ProductCacheEvictor productCacheEvictor;
+    private final ProductListCacheVersions listCacheVersions;
+    private final ProductIdFilter productIdFilter;
+    private final ProductMissCache missCache;
+    private final HotInventory hotInventory;
+    private final StockHoldRepository stockHoldRepository;
+    private final StockDeltaBuffer stockDeltaBuffer;
+    private final ProductSearchIndex searchIndex;
+    private final ProductIndexer productIndexer;
+    private final ProductSuggester suggester;
+    private final ProductPopularity popularity;
+    private final ProductFacetIndex facetIndex;
+    private final CategoryTreeCache categoryTree;
+    private final Duration defaultHoldTtl;
+    private final Duration maxHoldTtl;
+    private final int maxBatchSize;
 
-    public ProductService(ProductRepository productRepository, ApplicationEventPublisher eventPublisher) {
+    public ProductService(ProductRepository productRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          CacheManager cacheManager,
+                          ProductCacheEvictor productCacheEvictor,
+                          ProductListCacheVersions listCacheVersions,
+                          ProductIdFilter productIdFilter,
+                          ProductMissCache missCache,
+                          HotInventory hotInventory,
+                          StockHoldRepository stockHoldRepository,
+                          StockDeltaBuffer stockDeltaBuffer,
+                          ProductSearchIndex searchIndex,
+                          ProductIndexer productIndexer,
+                          ProductSuggester suggester,
+                          ProductPopularity popularity,
+                          ProductFacetIndex facetIndex,
+                          CategoryTreeCache categoryTree,
+                          @Value("${product.holds.default-ttl:PT15M}") Duration defaultHoldTtl,
+                          @Value("${product.holds.max-ttl:PT2H}") Duration maxHoldTtl,
+                          @Value("${product.batch.max-size:200}") int maxBatchSize) {
         this.productRepository = productRepository;
         this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.productCacheEvictor = productCacheEvictor;
+        this.listCacheVersions = listCacheVersions;
+        this.productIdFilter = productIdFilter;
+        this.missCache = missCache;
+        this.hotInventory = hotInventory;
+        this.stockHoldRepository = stockHoldRepository;
+        this.stockDeltaBuffer = stockDeltaBuffer;
+        this.searchIndex = searchIndex;
+        this.productIndexer = productIndexer;
+        this.suggester = suggester;
+        this.popularity = popularity;
+        this.facetIndex = facetIndex;
+        this.categoryTree = categoryTree;
+        this.defaultHoldTtl = defaultHoldTtl;
+        this.maxHoldTtl = maxHoldTtl;
+        this.maxBatchSize = maxBatchSize;
     }
 
-    @CacheEvict(value = {PRODUCT_CACHE, PRODUCT_LIST_CACHE}, allEntries = true)
+    /**
+     * A new product has no cached entry of its own; only the list pages it
+     * would appear on are invalidated.
+     */
     public ProductDto createProduct(CreateProductRequest request) {
         if (productRepository.existsBySku(request.sku())) {
             throw new BusinessException("SKU_EXISTS", "Product with this SKU already exists");
@@ -49,6 +153,9 @@ public class ProductService {
         );
 
         product = productRepository.save(product);
+        listCacheVersions.invalidate(product.getCategoryId());
+        productIdFilter.add(product.getId());
+        missCache.forget(product.getSku());
 
         eventPublisher.publishEvent(new ProductCreatedEvent(
                 product.getId(),
@@ -61,25 +168,259 @@ public class ProductService {
         return toDto(product);
     }
 
-    @Cacheable(value = PRODUCT_CACHE, key = "#id")
+    /**
+     * IDs the existence filter has never seen, or that recently missed, are rejected
+     * without a database query, apart from the filter's rate-limited fallback checks.
+     */
+    @Cacheable(value = PRODUCT_CACHE, key = "#id", sync = true)
     @Transactional(readOnly = true)
     public ProductDto getProduct(UUID id) {
+        boolean inFilter = productIdFilter.mightExist(id);
+        if ((!inFilter && !productIdFilter.allowFallbackLookup()) || missCache.isMissing(id)) {
+            throw new ResourceNotFoundException("Product", "id", id);
+        }
         Product product = productRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
+                .orElseThrow(() -> {
+                    missCache.markMissing(id);
+                    return new ResourceNotFoundException("Product", "id", id);
+                });
+        if (!inFilter) {
+            productIdFilter.recover(id);
+        }
         return toDto(product);
     }
 
+    /**
+     * Looks up many products at once: one cache multi-get, one IN query for the
+     * misses and one pipelined backfill. Products come back in request order;
+     * unknown IDs are left out.
+     */
     @Transactional(readOnly = true)
-    public Page<ProductDto> getAllProducts(Pageable pageable) {
-        return productRepository.findAll(pageable).map(this::toDto);
+    public List<ProductDto> getProducts(List<UUID> ids) {
+        if (ids.size() > maxBatchSize) {
+            throw new IllegalArgumentException("At most " + maxBatchSize + " products can be requested at once");
+        }
+        List<UUID> candidates = ids.stream()
+                .distinct()
+                .filter(id -> productIdFilter.mightExist(id) || productIdFilter.allowFallbackLookup())
+                .toList();
+        return candidates.isEmpty() ? List.of() : hydrate(candidates);
     }
 
+    /**
+     * Full-text search ranked by relevance. Pages are keyset-paginated on
+     * (rank, id): {@code cursor} is the {@code nextCursor} of the previous page.
+     * Matches are hydrated through the product cache.
+     */
     @Transactional(readOnly = true)
-    public Page<ProductDto> getProductsByCategory(UUID categoryId, Pageable pageable) {
-        return productRepository.findByCategoryId(categoryId, pageable).map(this::toDto);
+    public ProductSearchPage searchProducts(String query, String cursor, int size) {
+        if (query == null || query.isBlank() || query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be 1 to " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+
+        List<ProductSearchHit> hits = productRepository.search(query.trim(), decodeSearchCursor(cursor), size + 1);
+        boolean hasNext = hits.size() > size;
+        List<ProductSearchHit> page = hasNext ? hits.subList(0, size) : hits;
+        List<ProductDto> items = page.isEmpty()
+                ? List.of()
+                : hydrate(page.stream().map(ProductSearchHit::productId).toList());
+        return new ProductSearchPage(items, hasNext ? encodeSearchCursor(page.getLast()) : null);
+    }
+
+    /**
+     * Typo-tolerant search over the embedded index: every word must match name or
+     * description within a few edits, or the whole query must equal a SKU. Only
+     * active products are returned. Results trail product changes by about a second.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductDto> searchProductsFuzzy(String query, UUID categoryId, int page, int size) {
+        if (query == null || query.isBlank() || query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be 1 to " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        if (page < 0 || (long) (page + 1) * size > MAX_FUZZY_SEARCH_DEPTH) {
+            throw new IllegalArgumentException("Only the first " + MAX_FUZZY_SEARCH_DEPTH + " matches can be paged through");
+        }
+
+        List<UUID> ids = searchIndex.search(query.trim(), categoryId, page * size, size);
+        return ids.isEmpty() ? List.of() : hydrate(ids);
+    }
+
+    /**
+     * Filtered listing with facet counts, answered from the in-memory facet index
+     * and hydrated through the product cache.
+     */
+    @Transactional(readOnly = true)
+    public ProductFacetPage getProductsByFacets(ProductFacetFilter filter, int page, int size) {
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        if (page < 0 || page > Integer.MAX_VALUE / size) {
+            throw new IllegalArgumentException("Page out of range");
+        }
+
+        ProductFacetIndex.Selection selection = facetIndex.select(filter, page * size, size);
+        List<ProductSummaryDto> items = selection.productIds().isEmpty()
+                ? List.of()
+                : hydrateSummaries(selection.productIds());
+        return new ProductFacetPage(items, selection.total(), selection.counts());
+    }
+
+    /**
+     * Completions for a search box prefix, most reserved products first. Served from
+     * memory on every keystroke, so it runs outside any transaction.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<String> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.length() > MAX_SUGGEST_PREFIX_LENGTH) {
+            throw new IllegalArgumentException("Prefix must be at most " + MAX_SUGGEST_PREFIX_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        return prefix.isBlank() ? List.of() : suggester.suggest(prefix, limit);
+    }
+
+    /**
+     * Starts rebuilding this instance's search index from the products table.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildSearchIndex() {
+        if (!productIndexer.startRebuild()) {
+            throw new BusinessException("SEARCH_INDEX_REBUILDING", "A search index rebuild is already running");
+        }
+    }
+
+    // The rank travels as its exact float bits so the next page resumes precisely
+    private static String encodeSearchCursor(ProductSearchHit hit) {
+        String raw = Integer.toHexString(Float.floatToIntBits(hit.rank())) + ":" + hit.productId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ProductSearchHit decodeSearchCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            float rank = Float.intBitsToFloat(Integer.parseUnsignedInt(raw.substring(0, separator), 16));
+            return new ProductSearchHit(UUID.fromString(raw.substring(separator + 1)), rank);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid search cursor");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ProductDto getProductBySku(String sku) {
+        if (missCache.isMissing(sku)) {
+            throw new ResourceNotFoundException("Product", "sku", sku);
+        }
+        Product product = productRepository.findBySku(sku)
+                .orElseThrow(() -> {
+                    missCache.markMissing(sku);
+                    return new ResourceNotFoundException("Product", "sku", sku);
+                });
+        return toDto(product);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ProductSummaryDto> getAllProducts(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return productRepository.findSummaries(pageable).map(this::toSummaryDto);
+        }
+        return cachedPage(listCacheVersions.allProductsKey(pageable), pageable,
+                () -> productRepository.findSummaries(pageable).map(this::toSummaryDto));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ProductSummaryDto> getProductsByCategory(UUID categoryId, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return productRepository.findSummariesByCategoryId(categoryId, pageable).map(this::toSummaryDto);
+        }
+        return cachedPage(listCacheVersions.categoryKey(categoryId, pageable), pageable,
+                () -> productRepository.findSummariesByCategoryId(categoryId, pageable).map(this::toSummaryDto));
+    }
+
+    /**
+     * Products in a category and all its descendants, by name, in one query over
+     * the subtree's precomputed category IDs. The total comes from the cached tree
+     * and may trail recent product changes.
+     */
+    @Transactional(readOnly = true)
+    public Page<ProductSummaryDto> getProductsInCategoryTree(UUID categoryId, Pageable pageable) {
+        CategoryTree.Node node = categoryTree.get().find(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Category", "id", categoryId));
+
+        List<UUID> ids = productRepository.findIdsInCategories(node.subtreeIds(), pageable.getOffset(),
+                pageable.getPageSize());
+        List<ProductSummaryDto> items = ids.isEmpty() ? List.of() : hydrateSummaries(ids);
+        return new PageImpl<>(items, pageable, node.subtreeProductCount());
+    }
+
+    /**
+     * Listing in {@code sort} order, optionally within one category, paginated by
+     * keyset: {@code cursor} is the {@code nextCursor} of the previous page. No
+     * total is computed, and deep pages cost the same as the first.
+     */
+    @Transactional(readOnly = true)
+    public ProductCursorPage scrollProducts(String sort, UUID categoryId, String cursor, int size) {
+        ProductSort order = parseSort(sort);
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+
+        List<ProductListingKey> keys = productRepository.findPage(categoryId, order,
+                decodeListingCursor(order, cursor), size + 1);
+        boolean hasNext = keys.size() > size;
+        List<ProductListingKey> page = hasNext ? keys.subList(0, size) : keys;
+        List<ProductSummaryDto> items = page.isEmpty()
+                ? List.of()
+                : hydrateSummaries(page.stream().map(ProductListingKey::productId).toList());
+        return new ProductCursorPage(items, hasNext ? encodeListingCursor(order, page.getLast()) : null);
+    }
+
+    private static ProductSort parseSort(String sort) {
+        try {
+            return ProductSort.valueOf(sort.trim().toUpperCase(Locale.ROOT));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Sort must be one of " + Arrays.toString(ProductSort.values()));
+        }
+    }
+
+    // The cursor carries its sort so it cannot be replayed against another ordering
+    private static String encodeListingCursor(ProductSort sort, ProductListingKey key) {
+        String value = sort == ProductSort.NEWEST ? key.createdAt().toString() : key.price().toPlainString();
+        String raw = sort + ":" + key.productId() + ":" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ProductListingKey decodeListingCursor(ProductSort sort, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts;
+        ProductListingKey key;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 3);
+            UUID productId = UUID.fromString(parts[1]);
+            key = sort == ProductSort.NEWEST
+                    ? new ProductListingKey(productId, Instant.parse(parts[2]), null)
+                    : new ProductListingKey(productId, null, new BigDecimal(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid listing cursor");
+        }
+        if (!sort.name().equals(parts[0])) {
+            throw new IllegalArgumentException("Cursor was issued for sort " + parts[0]);
+        }
+        return key;
     }
 
-    @CacheEvict(value = PRODUCT_CACHE, key = "#id")
     public ProductDto updateProduct(UUID id, UpdateProductRequest request) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
@@ -88,39 +429,357 @@ public class ProductService {
         product.updateDetails(request.name(), request.description(), price);
 
         product = productRepository.save(product);
+        productCacheEvictor.evict(id);
+        listCacheVersions.invalidate(product.getCategoryId());
+        eventPublisher.publishEvent(new ProductUpdatedEvent(product.getId()));
         return toDto(product);
     }
 
-    @CacheEvict(value = PRODUCT_CACHE, key = "#id")
     public void updateStock(UUID id, int quantity) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
 
         product.updateStock(quantity);
-        productRepository.save(product);
+        applyStockChange(id,
+                () -> hotInventory.setStock(id, quantity),
+                () -> productRepository.setStock(id, quantity) ? OptionalInt.of(quantity) : OptionalInt.empty());
+        productCacheEvictor.evict(id);
+        listCacheVersions.invalidate(product.getCategoryId());
     }
 
-    public void reserveStock(UUID id, int quantity) {
-        Product product = productRepository.findById(id)
+    /**
+     * Accepts warehouse stock deltas for coalesced write-behind. They are durable
+     * when this returns and reach the product rows within one flush window.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void ingestStockDeltas(StockDeltaRequest request) {
+        Map<UUID, Integer> deltas = new LinkedHashMap<>();
+        request.deltas().forEach(item -> deltas.merge(item.productId(), item.delta(), Integer::sum));
+        stockDeltaBuffer.append(deltas);
+    }
+
+    /**
+     * Opts a product in or out of hot-SKU mode. With N slots, reservations lock one
+     * of N rows instead of the single product row.
+     */
+    public void configureStockSlots(UUID id, int slots) {
+        if (slots < 0 || slots > MAX_STOCK_SLOTS) {
+            throw new IllegalArgumentException("Stock slots must be between 0 and " + MAX_STOCK_SLOTS);
+        }
+        if (!productRepository.stripeStock(id, slots)) {
+            if (hotInventory.adopt(id)) {
+                throw new BusinessException("HOT_INVENTORY", "Stock of this product is managed in Redis");
+            }
+            throw new ResourceNotFoundException("Product", "id", id);
+        }
+        productCacheEvictor.evict(id);
+    }
+
+    /**
+     * Moves a top-selling product's stock to Redis, where reservations are atomic
+     * scripts and Postgres is updated in the background. Stock slots are merged first.
+     */
+    public void enableHotInventory(UUID id) {
+        productRepository.stripeStock(id, 0);
+        if (!hotInventory.enable(id)) {
+            throw new ResourceNotFoundException("Product", "id", id);
+        }
+        productCacheEvictor.evict(id);
+    }
+
+    public void disableHotInventory(UUID id) {
+        if (!hotInventory.disable(id)) {
+            throw new ResourceNotFoundException("Product", "id", id);
+        }
+        productCacheEvictor.evict(id);
+    }
+
+    /**
+     * Takes stock with a single conditional UPDATE, or a single Lua script for
+     * Redis-managed products, so concurrent reservations can never oversell.
+     */
+    public StockReservationResult reserveStock(UUID id, int quantity) {
+        requirePositive(quantity);
+        int remaining = applyStockChange(id,
+                () -> hotInventory.reserve(id, quantity),
+                () -> productRepository.reserveStock(id, quantity))
+                .orElseThrow(() -> reservationFailure(id, quantity));
+        productCacheEvictor.evict(id);
+        popularity.record(Map.of(id, quantity));
+        return new StockReservationResult(id, remaining);
+    }
+
+    /**
+     * Reserves every item of an order in one statement. If any product lacks
+     * stock the whole reservation is rolled back.
+     */
+    public List<StockReservationResult> reserveStock(ReserveStockRequest request) {
+        Map<UUID, Integer> quantities = quantitiesOf(request);
+
+        Map<UUID, Integer> remaining = new HashMap<>();
+        Map<UUID, Integer> inDatabase = new LinkedHashMap<>();
+        quantities.forEach((id, quantity) -> {
+            StockChange change = hotInventory.reserve(id, quantity);
+            if (change.managed()) {
+                change.remaining().ifPresent(stock -> remaining.put(id, stock));
+            } else {
+                inDatabase.put(id, quantity);
+            }
+        });
+        if (!inDatabase.isEmpty()) {
+            remaining.putAll(productRepository.reserveStock(inDatabase));
+        }
+        // Products moved to Redis by another instance are skipped by the batch statement
+        inDatabase.forEach((id, quantity) -> {
+            if (!remaining.containsKey(id) && hotInventory.adopt(id)) {
+                hotInventory.reserve(id, quantity).remaining().ifPresent(stock -> remaining.put(id, stock));
+            }
+        });
+        if (remaining.size() < quantities.size()) {
+            List<UUID> failed = quantities.keySet().stream()
+                    .filter(id -> !remaining.containsKey(id))
+                    .toList();
+            throw new BusinessException("INSUFFICIENT_STOCK",
+                    "Insufficient stock or unknown products: " + failed);
+        }
+
+        productCacheEvictor.evict(quantities.keySet());
+        remaining.forEach(facetIndex::stockChanged);
+        popularity.record(quantities);
+        return quantities.keySet().stream()
+                .map(id -> new StockReservationResult(id, remaining.get(id)))
+                .toList();
+    }
+
+    /**
+     * Reserves every item of an order until {@code ttl} (or the default hold TTL)
+     * elapses. Unless the hold is confirmed first, its stock is given back by
+     * {@link StockHoldReaper}.
+     */
+    public StockHoldResult holdStock(ReserveStockRequest request, Duration ttl) {
+        Duration holdTtl = ttl != null ? ttl : defaultHoldTtl;
+        if (holdTtl.isNegative() || holdTtl.isZero() || holdTtl.compareTo(maxHoldTtl) > 0) {
+            throw new IllegalArgumentException("Hold TTL must be positive and at most " + maxHoldTtl);
+        }
+
+        List<StockReservationResult> items = reserveStock(request);
+        UUID holdId = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plus(holdTtl);
+        stockHoldRepository.save(holdId, quantitiesOf(request), expiresAt);
+        return new StockHoldResult(holdId, expiresAt, items);
+    }
+
+    /**
+     * Turns a hold into a final decrement once the order is paid.
+     */
+    public void confirmHold(UUID holdId) {
+        if (stockHoldRepository.deleteActive(holdId, Instant.now()).isEmpty()) {
+            throw new ResourceNotFoundException("Stock hold", "id", holdId);
+        }
+    }
+
+    public void releaseHold(UUID holdId) {
+        Map<UUID, Integer> quantities = stockHoldRepository.delete(holdId);
+        if (quantities.isEmpty()) {
+            throw new ResourceNotFoundException("Stock hold", "id", holdId);
+        }
+        giveBack(quantities);
+    }
+
+    /**
+     * Gives back the stock of up to {@code limit} expired hold items.
+     *
+     * @return the number of products whose stock was given back
+     */
+    public int releaseExpiredHolds(int limit) {
+        Map<UUID, Integer> quantities = stockHoldRepository.deleteExpired(Instant.now(), limit);
+        giveBack(quantities);
+        return quantities.size();
+    }
+
+    private void giveBack(Map<UUID, Integer> quantities) {
+        quantities.forEach((id, quantity) -> applyStockChange(id,
+                () -> hotInventory.release(id, quantity),
+                () -> productRepository.releaseStock(id, quantity)));
+        productCacheEvictor.evict(quantities.keySet());
+    }
+
+    private static Map<UUID, Integer> quantitiesOf(ReserveStockRequest request) {
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        request.items().forEach(item -> quantities.merge(item.productId(), item.quantity(), Integer::sum));
+        return quantities;
+    }
+
+    public StockReservationResult releaseStock(UUID id, int quantity) {
+        requirePositive(quantity);
+        int stock = applyStockChange(id,
+                () -> hotInventory.release(id, quantity),
+                () -> productRepository.releaseStock(id, quantity))
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
+        productCacheEvictor.evict(id);
+        return new StockReservationResult(id, stock);
+    }
+
+    /**
+     * Applies a stock change in Redis for Redis-managed products and in Postgres
+     * otherwise. Postgres skips Redis-managed products, so a product this instance
+     * did not yet know as Redis-managed is adopted and retried in Redis.
+     */
+    private OptionalInt applyStockChange(UUID id, Supplier<StockChange> redis, Supplier<OptionalInt> database) {
+        OptionalInt remaining = routeStockChange(id, redis, database);
+        remaining.ifPresent(stock -> facetIndex.stockChanged(id, stock));
+        return remaining;
+    }
 
-        product.reserveStock(quantity);
-        productRepository.save(product);
+    private OptionalInt routeStockChange(UUID id, Supplier<StockChange> redis, Supplier<OptionalInt> database) {
+        StockChange change = redis.get();
+        if (change.managed()) {
+            return change.remaining();
+        }
+        OptionalInt remaining = database.get();
+        if (remaining.isEmpty() && hotInventory.adopt(id)) {
+            return redis.get().remaining();
+        }
+        return remaining;
     }
 
-    public void releaseStock(UUID id, int quantity) {
+    private RuntimeException reservationFailure(UUID id, int quantity) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
+        int available = hotInventory.currentStock(id).orElse(product.getStockQuantity());
+        return new BusinessException("INSUFFICIENT_STOCK",
+                String.format("Insufficient stock. Available: %d, Requested: %d", available, quantity));
+    }
 
-        product.releaseStock(quantity);
-        productRepository.save(product);
+    private void requirePositive(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
     }
 
-    @CacheEvict(value = {PRODUCT_CACHE, PRODUCT_LIST_CACHE}, allEntries = true)
     public void deleteProduct(UUID id) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
         productRepository.delete(product);
+        productCacheEvictor.evict(id);
+        listCacheVersions.invalidate(product.getCategoryId());
+        eventPublisher.publishEvent(new ProductDeletedEvent(product.getId()));
+    }
+
+    private Page<ProductSummaryDto> cachedPage(String key, Pageable pageable,
+                                               Supplier<Page<ProductSummaryDto>> loader) {
+        Cache listCache = cacheManager.getCache(PRODUCT_LIST_CACHE);
+        // Loaded through the single-flight path, so a popular page invalidated by a
+        // version bump is queried once. The caller that ran the query returns its
+        // page as loaded; callers that waited on it hydrate the cached IDs.
+        AtomicReference<Page<ProductSummaryDto>> loaded = new AtomicReference<>();
+        ProductIdPage cached = listCache.get(key, () -> {
+            Page<ProductSummaryDto> page = loader.get();
+            loaded.set(page);
+            return ProductIdPage.of(page);
+        });
+        Page<ProductSummaryDto> page = loaded.get();
+        return page != null ? page : cached.toPage(hydrateSummaries(cached.ids()), pageable);
+    }
+
+    /**
+     * Resolves cached IDs through the per-product cache in one multi-get and loads
+     * only the misses from the database. Products deleted since the page was cached
+     * are dropped; the version bump on delete makes that window short. Misses are
+     * backfilled only through a multi-get cache, which skips products evicted since
+     * the lookup so a row read before an update is not cached after it.
+     */
+    private List<ProductDto> hydrate(List<UUID> ids) {
+        Cache productCache = cacheManager.getCache(PRODUCT_CACHE);
+        MultiGetCache.MultiGet lookup = productCache instanceof MultiGetCache multiGetCache
+                ? multiGetCache.getAll(ids)
+                : null;
+        Map<Object, Object> cached = lookup != null ? lookup.found() : Map.of();
+
+        Map<UUID, ProductDto> products = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : ids) {
+            if (cached.get(id) instanceof ProductDto product) {
+                products.put(id, product);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<UUID, ProductDto> loaded = new HashMap<>();
+            for (Product product : productRepository.findByIds(missing)) {
+                loaded.put(product.getId(), toDto(product));
+            }
+            if (productCache instanceof MultiGetCache multiGetCache) {
+                multiGetCache.putAll(loaded, lookup);
+            }
+            products.putAll(loaded);
+        }
+
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Listing form of {@link #hydrate}: cached products are cut down to summaries and
+     * misses are read by projection, without descriptions. Misses are not backfilled,
+     * since the product cache holds full products.
+     */
+    private List<ProductSummaryDto> hydrateSummaries(List<UUID> ids) {
+        Cache productCache = cacheManager.getCache(PRODUCT_CACHE);
+        Map<Object, Object> cached = productCache instanceof MultiGetCache multiGetCache
+                ? multiGetCache.getAll(ids).found()
+                : Map.of();
+
+        Map<UUID, ProductSummaryDto> products = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : ids) {
+            if (cached.get(id) instanceof ProductDto product) {
+                products.put(id, toSummaryDto(product));
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (ProductSummary summary : productRepository.findSummariesByIds(missing)) {
+                products.put(summary.id(), toSummaryDto(summary));
+            }
+        }
+
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private ProductSummaryDto toSummaryDto(ProductSummary summary) {
+        return new ProductSummaryDto(
+                summary.id(),
+                summary.name(),
+                summary.sku(),
+                summary.price(),
+                summary.currency(),
+                summary.stockQuantity(),
+                summary.categoryId(),
+                summary.status().name(),
+                summary.isAvailable()
+        );
+    }
+
+    private ProductSummaryDto toSummaryDto(ProductDto product) {
+        return new ProductSummaryDto(
+                product.id(),
+                product.name(),
+                product.sku(),
+                product.price(),
+                product.currency(),
+                product.stockQuantity(),
+                product.categoryId(),
+                product.status(),
+                product.available()
+        );
     }
 
     private ProductDto toDto(Product product) {
@@ -0,0 +1,40 @@
+package com.ecommerce.product.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gives back the stock of abandoned checkouts. Each batch is its own transaction
+ * and reads only the oldest expired holds through the expiry index.
+ */
+@Slf4j
+@Component
+public class StockHoldReaper {
+
+    private final ProductService productService;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public StockHoldReaper(ProductService productService,
+                           @Value("${product.holds.expiry-batch-size:500}") int batchSize,
+                           @Value("${product.holds.max-batches-per-run:20}") int maxBatches) {
+        this.productService = productService;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(fixedDelayString = "${product.holds.expiry-interval:PT5S}")
+    public void releaseExpiredHolds() {
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                if (productService.releaseExpiredHolds(batchSize) == 0) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to release expired stock holds: {}", e.getMessage());
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.ecommerce.product.domain.entity;
 
-import com.ecommerce.product.domain.valueobject.Money;
-import com.ecommerce.product.domain.valueobject.ProductStatus;
+import com.ecommerce.common.domain.Money;
 import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.product.domain.valueobject.ProductStatus;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
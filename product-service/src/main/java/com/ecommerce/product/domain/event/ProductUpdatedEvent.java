@@ -0,0 +1,22 @@
+package com.ecommerce.product.domain.event;
+
+import com.ecommerce.common.domain.DomainEvent;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+public class ProductUpdatedEvent extends DomainEvent {
+
+    private final UUID productId;
+
+    public ProductUpdatedEvent(UUID productId) {
+        super();
+        this.productId = productId;
+    }
+
+    @Override
+    public String getEventType() {
+        return "PRODUCT_UPDATED";
+    }
+}
@@ -1,6 +1,7 @@
 package com.ecommerce.product.domain.repository;
 
 import com.ecommerce.product.domain.entity.Category;
+import com.ecommerce.product.domain.valueobject.CategoryTreeEntry;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,5 +17,11 @@ public interface CategoryRepository {
 
     List<Category> findByParentId(UUID parentId);
 
+    /**
+     * Every category reachable from a root, parents before children, with its
+     * direct product count.
+     */
+    List<CategoryTreeEntry> findTree();
+
     void delete(Category category);
 }
@@ -1,11 +1,20 @@
 package com.ecommerce.product.domain.repository;
 
 import com.ecommerce.product.domain.entity.Product;
+import com.ecommerce.product.domain.valueobject.ProductListingKey;
+import com.ecommerce.product.domain.valueobject.ProductSearchHit;
+import com.ecommerce.product.domain.valueobject.ProductSort;
+import com.ecommerce.product.domain.valueobject.ProductSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.UUID;
 
 public interface ProductRepository {
@@ -18,11 +27,98 @@ public interface ProductRepository {
 
     List<Product> findByIds(List<UUID> ids);
 
+    List<UUID> findAllIds();
+
+    /**
+     * The next {@code limit} products in ID order, for walking the whole table.
+     */
+    List<Product> findPageAfter(UUID afterId, int limit);
+
+    List<UUID> findIdsUpdatedSince(Instant since);
+
     Page<Product> findAll(Pageable pageable);
 
     Page<Product> findByCategoryId(UUID categoryId, Pageable pageable);
 
+    /**
+     * Listing views read without the description or timestamps. Order and paging
+     * follow {@code pageable}.
+     */
+    Page<ProductSummary> findSummaries(Pageable pageable);
+
+    Page<ProductSummary> findSummariesByCategoryId(UUID categoryId, Pageable pageable);
+
+    List<ProductSummary> findSummariesByIds(Collection<UUID> ids);
+
+    boolean existsByCategoryId(UUID categoryId);
+
+    /**
+     * Up to {@code limit} products in {@code sort} order, optionally within one
+     * category, continuing after {@code after} when given. No offset and no count,
+     * so every page costs the same.
+     */
+    List<ProductListingKey> findPage(UUID categoryId, ProductSort sort, ProductListingKey after, int limit);
+
+    /**
+     * IDs of one page of products in any of {@code categoryIds}, ordered by name.
+     */
+    List<UUID> findIdsInCategories(Collection<UUID> categoryIds, long offset, int limit);
+
+    /**
+     * Full-text matches ordered by relevance, starting after {@code after} when given.
+     */
+    List<ProductSearchHit> search(String query, ProductSearchHit after, int limit);
+
     void delete(Product product);
 
     boolean existsBySku(String sku);
+
+    /**
+     * Atomically takes stock if enough is available.
+     *
+     * @return the remaining stock, or empty if the product is missing or has too little stock
+     */
+    OptionalInt reserveStock(UUID id, int quantity);
+
+    /**
+     * Atomically returns stock.
+     *
+     * @return the new stock level, or empty if the product is missing
+     */
+    OptionalInt releaseStock(UUID id, int quantity);
+
+    /**
+     * Takes stock for several products in one statement. Only products with enough
+     * stock are decremented; the caller must roll back unless every product is returned.
+     *
+     * @return the remaining stock of each product that was decremented
+     */
+    Map<UUID, Integer> reserveStock(Map<UUID, Integer> quantities);
+
+    /**
+     * Sets the total available stock, spreading it across slots for a striped product.
+     *
+     * @return false if the product does not exist
+     */
+    boolean setStock(UUID id, int quantity);
+
+    /**
+     * Splits a product's stock across the given number of independently locked slots,
+     * or merges it back onto the product row when {@code slots} is 0.
+     *
+     * @return false if the product does not exist
+     */
+    boolean stripeStock(UUID id, int slots);
+
+    void rebalanceStock(UUID id);
+
+    /**
+     * Adds net stock deltas, clamping at zero, unless batch {@code sequence} from
+     * {@code sourceId} was applied before. Redis-managed products are skipped.
+     *
+     * @return the products updated, or empty if the batch was already applied
+     */
+    Optional<Set<UUID>> applyStockDeltas(UUID sourceId, long sequence, Map<UUID, Integer> deltas);
+
+    List<UUID> findStripedProductIds();
 }
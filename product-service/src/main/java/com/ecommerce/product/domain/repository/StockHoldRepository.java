@@ -0,0 +1,27 @@
+package com.ecommerce.product.domain.repository;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Time-limited holds on reserved stock. Removal methods return the held quantity
+ * per product, which the caller gives back or keeps.
+ */
+public interface StockHoldRepository {
+
+    void save(UUID holdId, Map<UUID, Integer> quantities, Instant expiresAt);
+
+    /**
+     * Removes a hold that has not expired by {@code now}; empty if there is none.
+     */
+    Map<UUID, Integer> deleteActive(UUID holdId, Instant now);
+
+    Map<UUID, Integer> delete(UUID holdId);
+
+    /**
+     * Removes up to {@code limit} expired hold items, oldest first. Items locked by
+     * a concurrent caller are skipped, so several instances can expire holds at once.
+     */
+    Map<UUID, Integer> deleteExpired(Instant now, int limit);
+}
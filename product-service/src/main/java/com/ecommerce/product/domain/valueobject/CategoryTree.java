@@ -0,0 +1,98 @@
+package com.ecommerce.product.domain.valueobject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the category hierarchy. Every node carries its whole
+ * subtree's IDs and product count, precomputed, so subtree questions need no
+ * walking at read time.
+ */
+public final class CategoryTree {
+
+    private static final CategoryTree EMPTY = new CategoryTree(Map.of(), List.of());
+
+    private final Map<UUID, Node> nodes;
+    private final List<Node> roots;
+
+    private CategoryTree(Map<UUID, Node> nodes, List<Node> roots) {
+        this.nodes = nodes;
+        this.roots = roots;
+    }
+
+    public static CategoryTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds the tree from entries ordered parents before children; entries whose
+     * parent is missing are dropped with their subtrees.
+     */
+    public static CategoryTree of(List<CategoryTreeEntry> entries) {
+        Map<UUID, CategoryTreeEntry> reachable = new HashMap<>();
+        Map<UUID, List<UUID>> children = new HashMap<>();
+        List<UUID> order = new ArrayList<>();
+        for (CategoryTreeEntry entry : entries) {
+            if (entry.parentId() != null && !reachable.containsKey(entry.parentId())) {
+                continue;
+            }
+            reachable.put(entry.id(), entry);
+            order.add(entry.id());
+            if (entry.parentId() != null) {
+                children.computeIfAbsent(entry.parentId(), id -> new ArrayList<>()).add(entry.id());
+            }
+        }
+
+        // Children before parents, so every subtree is complete when its parent is built
+        Map<UUID, Node> nodes = new HashMap<>();
+        for (int i = order.size() - 1; i >= 0; i--) {
+            CategoryTreeEntry entry = reachable.get(order.get(i));
+            List<UUID> childIds = List.copyOf(children.getOrDefault(entry.id(), List.of()));
+            Set<UUID> subtreeIds = new HashSet<>();
+            subtreeIds.add(entry.id());
+            long subtreeProductCount = entry.productCount();
+            for (UUID childId : childIds) {
+                Node child = nodes.get(childId);
+                subtreeIds.addAll(child.subtreeIds());
+                subtreeProductCount += child.subtreeProductCount();
+            }
+            nodes.put(entry.id(), new Node(entry.id(), entry.parentId(), entry.name(), childIds,
+                    Set.copyOf(subtreeIds), entry.productCount(), subtreeProductCount));
+        }
+
+        List<Node> roots = order.stream()
+                .map(nodes::get)
+                .filter(node -> node.parentId() == null)
+                .toList();
+        return new CategoryTree(Map.copyOf(nodes), roots);
+    }
+
+    public Optional<Node> find(UUID id) {
+        return Optional.ofNullable(nodes.get(id));
+    }
+
+    public List<Node> roots() {
+        return roots;
+    }
+
+    public List<Node> children(Node node) {
+        return node.childIds().stream().map(nodes::get).toList();
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * A category with its direct children, every category in its subtree (itself
+     * included), and product counts for the category alone and its whole subtree.
+     */
+    public record Node(UUID id, UUID parentId, String name, List<UUID> childIds, Set<UUID> subtreeIds,
+                       long productCount, long subtreeProductCount) {}
+}
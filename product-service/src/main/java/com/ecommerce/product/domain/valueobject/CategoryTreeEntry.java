@@ -0,0 +1,8 @@
+package com.ecommerce.product.domain.valueobject;
+
+import java.util.UUID;
+
+/**
+ * One category as loaded for the tree, with the products filed directly under it.
+ */
+public record CategoryTreeEntry(UUID id, UUID parentId, String name, long productCount) {}
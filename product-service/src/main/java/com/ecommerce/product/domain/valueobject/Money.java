@@ -1,51 +0,0 @@
-package com.ecommerce.product.domain.valueobject;
-
-import java.math.BigDecimal;
-import java.util.Currency;
-
-public record Money(BigDecimal amount, Currency currency) {
-
-    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("USD");
-
-    public Money {
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("Amount cannot be null or negative");
-        }
-        if (currency == null) {
-            currency = DEFAULT_CURRENCY;
-        }
-    }
-
-    public static Money of(BigDecimal amount) {
-        return new Money(amount, DEFAULT_CURRENCY);
-    }
-
-    public static Money of(BigDecimal amount, String currencyCode) {
-        return new Money(amount, Currency.getInstance(currencyCode));
-    }
-
-    public Money add(Money other) {
-        validateSameCurrency(other);
-        return new Money(amount.add(other.amount), currency);
-    }
-
-    public Money subtract(Money other) {
-        validateSameCurrency(other);
-        return new Money(amount.subtract(other.amount), currency);
-    }
-
-    public Money multiply(int quantity) {
-        return new Money(amount.multiply(BigDecimal.valueOf(quantity)), currency);
-    }
-
-    private void validateSameCurrency(Money other) {
-        if (!currency.equals(other.currency)) {
-            throw new IllegalArgumentException("Cannot operate on different currencies");
-        }
-    }
-
-    public boolean isGreaterThan(Money other) {
-        validateSameCurrency(other);
-        return amount.compareTo(other.amount) > 0;
-    }
-}
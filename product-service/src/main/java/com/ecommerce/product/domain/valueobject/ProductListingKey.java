@@ -0,0 +1,11 @@
+package com.ecommerce.product.domain.valueobject;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A listed product with the values it is sorted by; the last one of a page is the
+ * keyset the next page continues from.
+ */
+public record ProductListingKey(UUID productId, Instant createdAt, BigDecimal price) {}
@@ -0,0 +1,9 @@
+package com.ecommerce.product.domain.valueobject;
+
+import java.util.UUID;
+
+/**
+ * A search match and its relevance. Results are ordered by rank, then ID, which
+ * also makes the pair a keyset cursor.
+ */
+public record ProductSearchHit(UUID productId, float rank) {}
@@ -0,0 +1,11 @@
+package com.ecommerce.product.domain.valueobject;
+
+/**
+ * Orders for keyset-paginated listings. Each breaks ties by product ID, so the
+ * last product of a page pins down where the next one starts.
+ */
+public enum ProductSort {
+    NEWEST,
+    PRICE_ASC,
+    PRICE_DESC
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.product.domain.valueobject;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * The columns a product listing shows, read without loading the full product.
+ * Stock includes any held in hot-SKU slots.
+ */
+public record ProductSummary(
+        UUID id,
+        String name,
+        String sku,
+        BigDecimal price,
+        String currency,
+        Integer stockQuantity,
+        UUID categoryId,
+        ProductStatus status
+) {
+
+    public boolean isAvailable() {
+        return status == ProductStatus.ACTIVE && stockQuantity > 0;
+    }
+}
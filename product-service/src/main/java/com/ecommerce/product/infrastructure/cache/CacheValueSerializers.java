@@ -0,0 +1,42 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.Locale;
+
+/**
+ * Value serializers for caches that hold a single known type. The type is fixed per
+ * cache rather than written into every entry, so values carry no class names.
+ * {@code smile} is binary JSON (the default); {@code json} keeps values human-readable.
+ */
+public final class CacheValueSerializers {
+
+    public static final String SMILE = "smile";
+    public static final String JSON = "json";
+
+    private CacheValueSerializers() {}
+
+    public static <T> RedisSerializer<T> forType(String format, Class<T> type) {
+        return new Jackson2JsonRedisSerializer<>(mapper(format), type);
+    }
+
+    private static ObjectMapper mapper(String format) {
+        return switch (format.toLowerCase(Locale.ROOT)) {
+            case SMILE -> SmileMapper.builder()
+                    .addModule(new JavaTimeModule())
+                    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .build();
+            case JSON -> JsonMapper.builder()
+                    .addModule(new JavaTimeModule())
+                    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .build();
+            default -> throw new IllegalArgumentException("Unsupported cache serialization format: " + format);
+        };
+    }
+}
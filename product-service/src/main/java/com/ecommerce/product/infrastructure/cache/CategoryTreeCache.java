@@ -0,0 +1,85 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import com.ecommerce.product.domain.repository.CategoryRepository;
+import com.ecommerce.product.domain.valueobject.CategoryTree;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The category hierarchy held in memory as an immutable {@link CategoryTree}.
+ * Readers take the current snapshot with a single volatile read and never block;
+ * a reload builds a new snapshot from one recursive query and swaps it in.
+ * <p>
+ * Category changes reload the tree after commit and tell the other instances to do
+ * the same. Product counts follow product changes only on the periodic reload.
+ */
+@Slf4j
+@Component
+public class CategoryTreeCache implements MessageListener {
+
+    public static final String CHANNEL = "product-category-tree";
+
+    private final CategoryRepository categoryRepository;
+    private final StringRedisTemplate redisTemplate;
+    private volatile CategoryTree tree = CategoryTree.empty();
+
+    public CategoryTreeCache(CategoryRepository categoryRepository, StringRedisTemplate redisTemplate) {
+        this.categoryRepository = categoryRepository;
+        this.redisTemplate = redisTemplate;
+    }
+
+    public CategoryTree get() {
+        return tree;
+    }
+
+    /**
+     * Reloads once the surrounding transaction commits and broadcasts the change.
+     */
+    public void categoriesChanged() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadAndPublish();
+                }
+            });
+        } else {
+            reloadAndPublish();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        reload();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${product.categories.reload-interval:PT1M}",
+            initialDelayString = "${product.categories.reload-interval:PT1M}")
+    public synchronized void reload() {
+        try {
+            CategoryTree next = CategoryTree.of(categoryRepository.findTree());
+            tree = next;
+            log.debug("Reloaded category tree: {} categories", next.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to reload category tree; keeping the previous one", e);
+        }
+    }
+
+    private void reloadAndPublish() {
+        reload();
+        try {
+            redisTemplate.convertAndSend(CHANNEL, "reload");
+        } catch (Exception e) {
+            log.warn("Failed to broadcast category tree change: {}", e.getMessage());
+        }
+    }
+}
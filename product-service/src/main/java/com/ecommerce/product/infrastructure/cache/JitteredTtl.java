@@ -0,0 +1,33 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Spreads Redis expiries uniformly within {@code base ± spread} so entries written
+ * together, e.g. on a cold start, do not all expire in the same instant.
+ */
+public class JitteredTtl implements RedisCacheWriter.TtlFunction {
+
+    private final long baseMillis;
+    private final double spread;
+
+    public JitteredTtl(Duration base, double spread) {
+        if (spread < 0 || spread >= 1) {
+            throw new IllegalArgumentException("TTL jitter spread must be in [0, 1): " + spread);
+        }
+        this.baseMillis = base.toMillis();
+        this.spread = spread;
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, Object value) {
+        if (spread == 0) {
+            return Duration.ofMillis(baseMillis);
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-spread, spread);
+        return Duration.ofMillis((long) (baseMillis * factor));
+    }
+}
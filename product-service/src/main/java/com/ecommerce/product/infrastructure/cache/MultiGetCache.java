@@ -0,0 +1,30 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A cache that can look up, and backfill, many keys in one round trip.
+ */
+public interface MultiGetCache extends Cache {
+
+    /**
+     * The cached values of a multi-get, and a stamp per absent key that a later
+     * {@link #putAll} uses to detect evictions in between.
+     */
+    record MultiGet(Map<Object, Object> found, Map<Object, Long> missStamps) {}
+
+    /**
+     * Returns the cached values for the keys that are present; absent keys are omitted
+     * from {@code found} and stamped in {@code missStamps}.
+     */
+    MultiGet getAll(Collection<?> keys);
+
+    /**
+     * Backfills the misses of {@code lookup}. Keys evicted since the lookup, and keys
+     * it did not miss, are skipped: their values may predate the eviction.
+     */
+    void putAll(Map<?, ?> entries, MultiGet lookup);
+}
@@ -0,0 +1,54 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static com.ecommerce.product.infrastructure.config.CacheConfig.PRODUCT_CACHE;
+
+/**
+ * Evicts cached products once the surrounding transaction commits. Evicting
+ * earlier lets a concurrent reader re-cache the pre-commit row, and would tell
+ * peers to drop entries for a change that may still roll back.
+ */
+@Component
+public class ProductCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    public ProductCacheEvictor(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public void evict(UUID id) {
+        evict(List.of(id));
+    }
+
+    public void evict(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<UUID> evicted = List.copyOf(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(evicted);
+                }
+            });
+        } else {
+            evictNow(evicted);
+        }
+    }
+
+    private void evictNow(List<UUID> ids) {
+        Cache productCache = cacheManager.getCache(PRODUCT_CACHE);
+        ids.forEach(productCache::evict);
+    }
+}
@@ -0,0 +1,187 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import com.ecommerce.product.domain.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory Bloom filter of existing product IDs, so lookups of IDs that were never
+ * created are answered without touching the database.
+ * <p>
+ * New IDs are added after commit and broadcast to the other instances. The filter is
+ * rebuilt from the database periodically, which drops deleted products and heals any
+ * lost broadcast. Until the first build completes every ID is treated as possibly present.
+ * <p>
+ * A lost broadcast leaves a new product out of this instance's filter until that
+ * rebuild. Callers therefore get a small, rate-limited budget of database checks
+ * for rejected IDs ({@link #allowFallbackLookup()}), and a product found that way is
+ * added back ({@link #recover(UUID)}).
+ */
+@Slf4j
+public class ProductIdFilter implements MessageListener {
+
+    public static final String CHANNEL = "product-id-filter";
+
+    private static final long MIN_CAPACITY = 10_000;
+
+    private final ProductRepository productRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final double falsePositiveRate;
+    private final int fallbackLookupsPerSecond;
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile BloomFilter filter;
+    private Set<UUID> addedDuringRebuild;
+
+    private final AtomicLong fallbackSecond = new AtomicLong();
+    private final AtomicInteger fallbackLookups = new AtomicInteger();
+
+    public ProductIdFilter(ProductRepository productRepository,
+                           StringRedisTemplate redisTemplate,
+                           double falsePositiveRate,
+                           int fallbackLookupsPerSecond) {
+        this.productRepository = productRepository;
+        this.redisTemplate = redisTemplate;
+        this.falsePositiveRate = falsePositiveRate;
+        this.fallbackLookupsPerSecond = fallbackLookupsPerSecond;
+    }
+
+    public boolean mightExist(UUID id) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(id);
+    }
+
+    /**
+     * Takes one of this second's database checks for an ID the filter rejected. The
+     * budget is per instance, so a flood of unknown IDs still costs at most that many
+     * queries per second.
+     */
+    public boolean allowFallbackLookup() {
+        long second = System.currentTimeMillis() / 1000;
+        long current = fallbackSecond.get();
+        if (current != second && fallbackSecond.compareAndSet(current, second)) {
+            fallbackLookups.set(0);
+        }
+        return fallbackLookups.incrementAndGet() <= fallbackLookupsPerSecond;
+    }
+
+    /**
+     * Adds a product that the filter rejected but the database has, and re-broadcasts
+     * it for any other instance that missed the original message.
+     */
+    public void recover(UUID id) {
+        log.info("Product {} was missing from the ID filter; adding it back", id);
+        addAndPublish(id);
+    }
+
+    /**
+     * Records a new product once the surrounding transaction commits, so no instance
+     * can look the ID up before the row is visible.
+     */
+    public void add(UUID id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addAndPublish(id);
+                }
+            });
+        } else {
+            addAndPublish(id);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            addLocal(UUID.fromString(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed product ID filter message: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Builds a fresh filter from the database. IDs added while the snapshot is being
+     * read are recorded and replayed into the new filter before it is swapped in.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${product.id-filter.rebuild-interval:PT10M}",
+            initialDelayString = "${product.id-filter.rebuild-interval:PT10M}")
+    public synchronized void rebuild() {
+        swapLock.writeLock().lock();
+        try {
+            addedDuringRebuild = ConcurrentHashMap.newKeySet();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        BloomFilter next;
+        try {
+            List<UUID> ids = productRepository.findAllIds();
+            // Headroom for products created before the next rebuild
+            next = BloomFilter.create(Math.max(MIN_CAPACITY, ids.size() * 2L), falsePositiveRate);
+            ids.forEach(next::add);
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild product ID filter; keeping the previous one", e);
+            swapLock.writeLock().lock();
+            try {
+                addedDuringRebuild = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            return;
+        }
+
+        swapLock.writeLock().lock();
+        try {
+            addedDuringRebuild.forEach(next::add);
+            addedDuringRebuild = null;
+            filter = next;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        log.info("Rebuilt product ID filter: {} bits, {} hashes, {} KiB",
+                next.bitCount(), next.hashCount(), next.sizeInBytes() / 1024);
+    }
+
+    private void addAndPublish(UUID id) {
+        addLocal(id);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, id.toString());
+        } catch (Exception e) {
+            log.warn("Failed to broadcast new product ID {}: {}", id, e.getMessage());
+        }
+    }
+
+    private void addLocal(UUID id) {
+        swapLock.readLock().lock();
+        try {
+            BloomFilter current = filter;
+            if (current != null) {
+                current.add(id);
+            }
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(id);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Version-stamped namespaces for cached product list pages.
+ * Each page key embeds the current version of its namespace, so bumping a version
+ * orphans every page of that namespace in O(1); orphans simply age out by TTL.
+ */
+@Component
+public class ProductListCacheVersions {
+
+    private static final String VERSION_PREFIX = "productList:version:";
+    private static final String ALL_NAMESPACE = "all";
+    private static final String CATEGORY_NAMESPACE = "category:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public ProductListCacheVersions(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public String allProductsKey(Pageable pageable) {
+        return pageKey(ALL_NAMESPACE, pageable);
+    }
+
+    public String categoryKey(UUID categoryId, Pageable pageable) {
+        return pageKey(CATEGORY_NAMESPACE + categoryId, pageable);
+    }
+
+    /**
+     * Invalidates the global list and the product's category once the surrounding
+     * transaction commits, so a concurrent reader cannot re-cache pre-commit data
+     * under the new version.
+     */
+    public void invalidate(UUID categoryId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(categoryId);
+                }
+            });
+        } else {
+            bump(categoryId);
+        }
+    }
+
+    private void bump(UUID categoryId) {
+        redisTemplate.opsForValue().increment(VERSION_PREFIX + ALL_NAMESPACE);
+        if (categoryId != null) {
+            redisTemplate.opsForValue().increment(VERSION_PREFIX + CATEGORY_NAMESPACE + categoryId);
+        }
+    }
+
+    private String pageKey(String namespace, Pageable pageable) {
+        String version = redisTemplate.opsForValue().get(VERSION_PREFIX + namespace);
+        return namespace
+                + ":v" + (version != null ? version : "0")
+                + ":" + pageable.getPageNumber()
+                + ":" + pageable.getPageSize()
+                + ":" + pageable.getSort().toString().replace(" ", "");
+    }
+}
@@ -0,0 +1,64 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static com.ecommerce.product.infrastructure.config.CacheConfig.PRODUCT_MISS_CACHE;
+
+/**
+ * Short-lived record of product IDs and SKUs that were looked up and not found,
+ * so repeated requests for them do not reach the database.
+ */
+@Component
+public class ProductMissCache {
+
+    private static final String ID_PREFIX = "id:";
+    private static final String SKU_PREFIX = "sku:";
+
+    private final CacheManager cacheManager;
+
+    public ProductMissCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public boolean isMissing(UUID id) {
+        return cache().get(ID_PREFIX + id) != null;
+    }
+
+    public boolean isMissing(String sku) {
+        return cache().get(SKU_PREFIX + sku) != null;
+    }
+
+    public void markMissing(UUID id) {
+        cache().put(ID_PREFIX + id, Boolean.TRUE);
+    }
+
+    public void markMissing(String sku) {
+        cache().put(SKU_PREFIX + sku, Boolean.TRUE);
+    }
+
+    /**
+     * Forgets a missing SKU once the product that now uses it is committed.
+     */
+    public void forget(String sku) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache().evict(SKU_PREFIX + sku);
+                }
+            });
+        } else {
+            cache().evict(SKU_PREFIX + sku);
+        }
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(PRODUCT_MISS_CACHE);
+    }
+}
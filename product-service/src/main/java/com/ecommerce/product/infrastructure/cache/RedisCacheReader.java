@@ -0,0 +1,134 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads {@link RedisCache} entries directly: many keys with a single MGET, or one
+ * key together with its remaining TTL in one pipelined round trip. Uses the cache's
+ * own key prefix and serializers so it sees exactly what {@code RedisCache#get} would.
+ * Bulk backfills go the other way, as one pipeline of SETs with the cache's TTL.
+ */
+public class RedisCacheReader {
+
+    public static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final RedisConnectionFactory connectionFactory;
+
+    public RedisCacheReader(RedisConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * A cached value and the epoch millisecond at which Redis will expire it.
+     */
+    public record TimedValue(Object value, long expiresAtMillis) {}
+
+    /**
+     * Values in key order, with {@code null} for misses.
+     */
+    public List<Object> multiGet(RedisCache cache, List<?> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        RedisCacheConfiguration config = cache.getCacheConfiguration();
+
+        byte[][] rawKeys = new byte[keys.size()][];
+        for (int i = 0; i < keys.size(); i++) {
+            rawKeys[i] = rawKey(cache, keys.get(i));
+        }
+
+        List<byte[]> rawValues;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            rawValues = connection.stringCommands().mGet(rawKeys);
+        }
+
+        List<Object> values = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] raw = rawValues != null ? rawValues.get(i) : null;
+            values.add(raw != null ? config.getValueSerializationPair().read(ByteBuffer.wrap(raw)) : null);
+        }
+        return values;
+    }
+
+    /**
+     * Writes all entries in one pipelined round trip, each with the TTL the cache
+     * would give it.
+     */
+    public void putAll(RedisCache cache, Map<?, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        RedisCacheConfiguration config = cache.getCacheConfiguration();
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            entries.forEach((key, value) -> {
+                ByteBuffer buffer = config.getValueSerializationPair().write(value);
+                byte[] rawValue = new byte[buffer.remaining()];
+                buffer.get(rawValue);
+                Duration ttl = config.getTtlFunction().getTimeToLive(key, value);
+                Expiration expiration = ttl != null && !ttl.isZero() && !ttl.isNegative()
+                        ? Expiration.from(ttl)
+                        : Expiration.persistent();
+                connection.stringCommands().set(rawKey(cache, key), rawValue, expiration, SetOption.upsert());
+            });
+            connection.closePipeline();
+        }
+    }
+
+    /**
+     * The value and its expiry, or {@code null} on a miss.
+     */
+    public TimedValue getWithExpiry(RedisCache cache, Object key) {
+        byte[] rawKey = rawKey(cache, key);
+        List<Object> results;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            connection.stringCommands().get(rawKey);
+            connection.keyCommands().pTtl(rawKey);
+            results = connection.closePipeline();
+        }
+
+        if (results.size() < 2 || !(results.get(0) instanceof byte[] raw)) {
+            return null;
+        }
+        Object value = cache.getCacheConfiguration().getValueSerializationPair().read(ByteBuffer.wrap(raw));
+        return new TimedValue(value, toExpiresAt(results.get(1)));
+    }
+
+    public long expiresAt(RedisCache cache, Object key) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            return toExpiresAt(connection.keyCommands().pTtl(rawKey(cache, key)));
+        }
+    }
+
+    // PTTL is negative for missing keys (-2) and keys without a TTL (-1)
+    private static long toExpiresAt(Object pttl) {
+        return pttl instanceof Long millis && millis >= 0 ? System.currentTimeMillis() + millis : NO_EXPIRY;
+    }
+
+    private static byte[] rawKey(RedisCache cache, Object key) {
+        RedisCacheConfiguration config = cache.getCacheConfiguration();
+        ConversionService conversionService = config.getConversionService();
+        String converted = conversionService.canConvert(key.getClass(), String.class)
+                ? conversionService.convert(key, String.class)
+                : key.toString();
+        String cacheKey = config.usePrefix() ? config.getKeyPrefixFor(cache.getName()) + converted : converted;
+
+        ByteBuffer buffer = config.getKeySerializationPair().write(cacheKey);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
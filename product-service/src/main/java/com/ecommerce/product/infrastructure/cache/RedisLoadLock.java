@@ -0,0 +1,47 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Short-lived Redis lock that lets one instance reload a missing cache entry while
+ * the others wait for it. The lock expires on its own if the holder dies.
+ */
+public class RedisLoadLock {
+
+    private static final String PREFIX = "cache-load-lock:";
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration timeout;
+
+    public RedisLoadLock(StringRedisTemplate redisTemplate, Duration timeout) {
+        this.redisTemplate = redisTemplate;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the lock token, or {@code null} if another instance holds the lock.
+     */
+    public String tryAcquire(String cacheName, String key) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, timeout);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    public void release(String cacheName, String key, String token) {
+        redisTemplate.execute(RELEASE, List.of(lockKey(cacheName, key)), token);
+    }
+
+    private static String lockKey(String cacheName, String key) {
+        return PREFIX + cacheName + "::" + key;
+    }
+}
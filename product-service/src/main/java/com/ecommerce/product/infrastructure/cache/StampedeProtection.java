@@ -0,0 +1,43 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Settings for coalescing reloads of a cache key.
+ *
+ * @param loadLock         cross-instance lock, or {@code null} to coalesce within the instance only
+ * @param lockWait         how long a caller waits for another instance's load before loading itself
+ * @param earlyRefreshBeta XFetch aggressiveness; 0 disables early refresh, 1 is the usual setting
+ * @param refreshExecutor  runs background refreshes
+ */
+public record StampedeProtection(
+        RedisLoadLock loadLock,
+        Duration lockWait,
+        double earlyRefreshBeta,
+        Executor refreshExecutor
+) {
+
+    // Assumed load cost for entries whose load time was not observed on this instance
+    private static final long DEFAULT_LOAD_NANOS = Duration.ofMillis(50).toNanos();
+
+    public static StampedeProtection localOnly(Executor refreshExecutor) {
+        return new StampedeProtection(null, Duration.ZERO, 1.0, refreshExecutor);
+    }
+
+    /**
+     * Probabilistic early expiration (XFetch): the chance of refreshing grows as the
+     * entry approaches expiry, scaled by how long it takes to load. Frequently read
+     * keys are therefore refreshed by one reader shortly before they expire, while
+     * rarely read keys simply expire.
+     */
+    public boolean shouldRefreshEarly(long expiresAtMillis, long loadNanos) {
+        if (earlyRefreshBeta <= 0 || expiresAtMillis == RedisCacheReader.NO_EXPIRY) {
+            return false;
+        }
+        double loadMillis = (loadNanos > 0 ? loadNanos : DEFAULT_LOAD_NANOS) / 1_000_000.0;
+        double gap = -loadMillis * earlyRefreshBeta * Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= expiresAtMillis;
+    }
+}
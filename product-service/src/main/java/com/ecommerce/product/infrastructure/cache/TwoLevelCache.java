@@ -0,0 +1,520 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache with an in-process Caffeine level (L1) in front of a shared Redis level (L2).
+ * Reads fill L1 from L2; evictions hit both levels and are broadcast so that every
+ * other instance drops its L1 copy. L1 entries expire quickly, which bounds staleness
+ * if an invalidation message is ever lost.
+ * <p>
+ * Loads through {@link #get(Object, Callable)} are coalesced: concurrent misses for a
+ * key share one load per instance, optionally one per cluster via {@link RedisLoadLock},
+ * and keys read close to their Redis expiry are refreshed early in the background.
+ * <p>
+ * Every eviction, local or from a peer, advances a per-key eviction generation. A
+ * load or L1 fill stamps the generation before it reads and drops its write if the
+ * generation moved, so a value read before an eviction is never cached after it.
+ */
+@Slf4j
+public class TwoLevelCache implements MultiGetCache {
+
+    private static final long LOCK_POLL_MILLIS = 25;
+    private static final int GENERATION_STRIPES = 64;
+
+    /**
+     * L1 value with the L2 expiry it was read with and the observed load time,
+     * both used to decide on early refresh.
+     */
+    public record LocalEntry(Object value, long remoteExpiresAtMillis, long loadNanos) {}
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> local;
+    private final Cache remote;
+    private final CacheInvalidationBroadcaster broadcaster;
+    private final RedisCacheReader reader;
+    private final StampedeProtection stampede;
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    // Separate from inFlight so a miss never waits on, or is answered by, an early refresh
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final AtomicLongArray evictionGenerations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder earlyRefreshes = new LongAdder();
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> local,
+                         Cache remote,
+                         CacheInvalidationBroadcaster broadcaster,
+                         RedisCacheReader reader,
+                         StampedeProtection stampede) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.broadcaster = broadcaster;
+        this.reader = reader;
+        this.stampede = stampede;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        LocalEntry entry = lookup(key, localKey(key));
+        return entry != null ? new SimpleValueWrapper(fromStoreValue(entry.value())) : null;
+    }
+
+    /**
+     * Serves what it can from L1 and fetches the rest from Redis in one MGET.
+     */
+    @Override
+    public MultiGet getAll(Collection<?> keys) {
+        Map<Object, Object> found = new LinkedHashMap<>();
+        Map<Object, Long> missStamps = new HashMap<>();
+        List<Object> remoteKeys = new ArrayList<>();
+        List<Long> generations = new ArrayList<>();
+        for (Object key : keys) {
+            LocalEntry cached = local.getIfPresent(localKey(key));
+            if (cached != null) {
+                localHits.increment();
+                found.put(key, fromStoreValue(cached.value()));
+            } else {
+                localMisses.increment();
+                remoteKeys.add(key);
+                generations.add(generation(localKey(key)));
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return new MultiGet(found, missStamps);
+        }
+
+        List<Object> remoteValues = remote instanceof RedisCache redisCache && reader != null
+                ? reader.multiGet(redisCache, remoteKeys)
+                : remoteKeys.stream().map(this::getRemoteValue).toList();
+        for (int i = 0; i < remoteKeys.size(); i++) {
+            Object value = remoteValues.get(i);
+            if (value == null) {
+                remoteMisses.increment();
+                missStamps.put(remoteKeys.get(i), generations.get(i));
+                continue;
+            }
+            remoteHits.increment();
+            putLocal(localKey(remoteKeys.get(i)), new LocalEntry(value, RedisCacheReader.NO_EXPIRY, 0), generations.get(i));
+            found.put(remoteKeys.get(i), value);
+        }
+        return new MultiGet(found, missStamps);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Used by {@code @Cacheable(sync = true)}. A miss is loaded once per key however
+     * many callers are waiting, and a hit close to expiry may trigger a background refresh.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        LocalEntry entry = lookup(key, localKey);
+        if (entry != null) {
+            if (stampede.shouldRefreshEarly(entry.remoteExpiresAtMillis(), entry.loadNanos())) {
+                refreshInBackground(key, localKey, entry, valueLoader);
+            }
+            return (T) fromStoreValue(entry.value());
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(localKey, load);
+        if (existing != null) {
+            return (T) await(existing);
+        }
+        try {
+            Object value = loadAcrossInstances(key, localKey, valueLoader);
+            load.complete(value);
+            return (T) value;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(localKey, load);
+        }
+    }
+
+    /**
+     * Puts come from read-through loads, so they are not broadcast: other
+     * instances either hold the same value or will load it from L2. The L2 expiry
+     * is not looked up here; the entry becomes eligible for early refresh once
+     * L1 re-reads it from Redis.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        if (value != null) {
+            local.put(localKey(key), new LocalEntry(value, RedisCacheReader.NO_EXPIRY, 0));
+        }
+    }
+
+    /**
+     * Backfill after a bulk load: one pipelined write to Redis. Not broadcast, like {@link #put}.
+     * Like {@link #load}, keys evicted since the multi-get are skipped, and an eviction
+     * that lands during the write is undone afterwards.
+     */
+    @Override
+    public void putAll(Map<?, ?> entries, MultiGet lookup) {
+        Map<Object, Object> unchanged = new LinkedHashMap<>();
+        entries.forEach((key, value) -> {
+            Long stamp = lookup.missStamps().get(key);
+            if (value != null && stamp != null && generation(localKey(key)) == stamp) {
+                unchanged.put(key, value);
+            }
+        });
+        if (unchanged.isEmpty()) {
+            return;
+        }
+
+        if (remote instanceof RedisCache redisCache && reader != null) {
+            reader.putAll(redisCache, unchanged);
+        } else {
+            unchanged.forEach(remote::put);
+        }
+        unchanged.forEach((key, value) -> {
+            String localKey = localKey(key);
+            local.put(localKey, new LocalEntry(value, RedisCacheReader.NO_EXPIRY, 0));
+            if (generation(localKey) != lookup.missStamps().get(key)) {
+                remote.evict(key);
+                local.invalidate(localKey);
+            }
+        });
+    }
+
+    @Override
+    public void evict(Object key) {
+        // Advanced before Redis is touched, so a racing load either sees it or is overwritten by the evict
+        advanceGeneration(localKey(key));
+        remote.evict(key);
+        evictLocal(localKey(key));
+        broadcaster.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        advanceGeneration(localKey(key));
+        boolean present = remote.evictIfPresent(key);
+        evictLocal(localKey(key));
+        broadcaster.publishEvict(name, localKey(key));
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        advanceAllGenerations();
+        remote.clear();
+        clearLocal();
+        broadcaster.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        advanceAllGenerations();
+        boolean invalidated = remote.invalidate();
+        clearLocal();
+        broadcaster.publishClear(name);
+        return invalidated;
+    }
+
+    private LocalEntry lookup(Object key, String localKey) {
+        LocalEntry cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+        localMisses.increment();
+
+        long generation = generation(localKey);
+        LocalEntry fromRemote = readRemote(key);
+        if (fromRemote == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        putLocal(localKey, fromRemote, generation);
+        return fromRemote;
+    }
+
+    private LocalEntry readRemote(Object key) {
+        if (remote instanceof RedisCache redisCache && reader != null) {
+            RedisCacheReader.TimedValue timed = reader.getWithExpiry(redisCache, key);
+            return timed != null ? new LocalEntry(timed.value(), timed.expiresAtMillis(), 0) : null;
+        }
+        Object value = getRemoteValue(key);
+        return value != null ? new LocalEntry(value, RedisCacheReader.NO_EXPIRY, 0) : null;
+    }
+
+    /**
+     * Loads under the cross-instance lock when one is configured. A caller that loses
+     * the lock waits for the winner's value to appear in Redis, and loads itself only
+     * if it does not arrive within the lock wait.
+     */
+    private Object loadAcrossInstances(Object key, String localKey, Callable<?> valueLoader) {
+        long generation = generation(localKey);
+        RedisLoadLock lock = stampede.loadLock();
+        if (lock == null) {
+            return load(key, localKey, valueLoader, generation);
+        }
+
+        String token = lock.tryAcquire(name, localKey);
+        if (token != null) {
+            try {
+                return load(key, localKey, valueLoader, generation);
+            } finally {
+                lock.release(name, localKey, token);
+            }
+        }
+
+        LocalEntry peerValue = awaitPeerLoad(key, stampede.lockWait());
+        if (peerValue != null) {
+            putLocal(localKey, peerValue, generation);
+            return fromStoreValue(peerValue.value());
+        }
+        return load(key, localKey, valueLoader, generation);
+    }
+
+    private LocalEntry awaitPeerLoad(Object key, Duration wait) {
+        long deadline = System.nanoTime() + wait.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            LocalEntry entry = readRemote(key);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The loaded value is always returned, but only cached if the key was not
+     * evicted since {@code generation}: the loader may have read the data before
+     * the change that caused the eviction was committed.
+     */
+    private Object load(Object key, String localKey, Callable<?> valueLoader, long generation) {
+        loads.increment();
+        long start = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long loadNanos = System.nanoTime() - start;
+
+        if (value == null || generation(localKey) != generation) {
+            return value;
+        }
+        remote.put(key, value);
+        local.put(localKey, new LocalEntry(value, remoteExpiresAt(key), loadNanos));
+        // An eviction that landed between the check and the writes is undone here
+        if (generation(localKey) != generation) {
+            remote.evict(key);
+            local.invalidate(localKey);
+        }
+        return value;
+    }
+
+    /**
+     * One refresh per key at a time. If a peer has already refreshed the Redis entry,
+     * L1 just picks up the new value instead of reloading.
+     */
+    private void refreshInBackground(Object key, String localKey, LocalEntry stale, Callable<?> valueLoader) {
+        if (!refreshing.add(localKey)) {
+            return;
+        }
+        earlyRefreshes.increment();
+
+        stampede.refreshExecutor().execute(() -> {
+            try {
+                long generation = generation(localKey);
+                LocalEntry current = readRemote(key);
+                if (current != null && current.remoteExpiresAtMillis() > stale.remoteExpiresAtMillis()) {
+                    putLocal(localKey, new LocalEntry(current.value(), current.remoteExpiresAtMillis(), stale.loadNanos()),
+                            generation);
+                    return;
+                }
+
+                RedisLoadLock lock = stampede.loadLock();
+                String token = lock != null ? lock.tryAcquire(name, localKey) : null;
+                if (lock != null && token == null) {
+                    // Another instance is refreshing; keep serving the current value
+                    return;
+                }
+                try {
+                    load(key, localKey, valueLoader, generation);
+                } finally {
+                    if (token != null) {
+                        lock.release(name, localKey, token);
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Early refresh of {}::{} failed: {}", name, localKey, e.getMessage());
+            } finally {
+                refreshing.remove(localKey);
+            }
+        });
+    }
+
+    private static Object await(CompletableFuture<Object> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private long remoteExpiresAt(Object key) {
+        return remote instanceof RedisCache redisCache && reader != null
+                ? reader.expiresAt(redisCache, key)
+                : RedisCacheReader.NO_EXPIRY;
+    }
+
+    private Object getRemoteValue(Object key) {
+        ValueWrapper wrapper = remote.get(key);
+        return wrapper != null ? wrapper.get() : null;
+    }
+
+    void evictLocal(String localKey) {
+        advanceGeneration(localKey);
+        local.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        advanceAllGenerations();
+        local.invalidateAll();
+    }
+
+    /**
+     * Writes to L1 unless the key was evicted since {@code generation}; the re-check
+     * after the write catches an eviction that raced with it.
+     */
+    private void putLocal(String localKey, LocalEntry entry, long generation) {
+        if (generation(localKey) != generation) {
+            return;
+        }
+        local.put(localKey, entry);
+        if (generation(localKey) != generation) {
+            local.invalidate(localKey);
+        }
+    }
+
+    private long generation(String localKey) {
+        return evictionGenerations.get(stripe(localKey));
+    }
+
+    private void advanceGeneration(String localKey) {
+        evictionGenerations.incrementAndGet(stripe(localKey));
+    }
+
+    private void advanceAllGenerations() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            evictionGenerations.incrementAndGet(i);
+        }
+    }
+
+    private static int stripe(String localKey) {
+        return Math.floorMod(localKey.hashCode(), GENERATION_STRIPES);
+    }
+
+    public long localHits() {
+        return localHits.sum();
+    }
+
+    public long localMisses() {
+        return localMisses.sum();
+    }
+
+    public long remoteHits() {
+        return remoteHits.sum();
+    }
+
+    public long remoteMisses() {
+        return remoteMisses.sum();
+    }
+
+    public long loads() {
+        return loads.sum();
+    }
+
+    public long earlyRefreshes() {
+        return earlyRefreshes.sum();
+    }
+
+    public double localHitRatio() {
+        return ratio(localHits(), localMisses());
+    }
+
+    public double remoteHitRatio() {
+        return ratio(remoteHits(), remoteMisses());
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    // Same string form RedisCache uses for its keys, so broadcasts match across instances
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static Object fromStoreValue(Object value) {
+        return value == NullValue.INSTANCE ? null : value;
+    }
+}
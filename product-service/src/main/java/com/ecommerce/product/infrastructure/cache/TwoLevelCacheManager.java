@@ -0,0 +1,74 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Wraps every Redis cache in a {@link TwoLevelCache} with its own bounded Caffeine level.
+ */
+public class TwoLevelCacheManager extends AbstractCacheManager {
+
+    private final RedisCacheManager remoteCacheManager;
+    private final CacheInvalidationBroadcaster broadcaster;
+    private final RedisCacheReader reader;
+    private final StampedeProtection stampede;
+    private final long localMaximumSize;
+    private final Duration localTtl;
+
+    public TwoLevelCacheManager(RedisCacheManager remoteCacheManager,
+                                CacheInvalidationBroadcaster broadcaster,
+                                RedisCacheReader reader,
+                                StampedeProtection stampede,
+                                long localMaximumSize,
+                                Duration localTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.broadcaster = broadcaster;
+        this.reader = reader;
+        this.stampede = stampede;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        remoteCacheManager.initializeCaches();
+        return remoteCacheManager.getCacheNames().stream()
+                .map(this::createCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return remoteCacheManager.getCache(name) != null ? createCache(name) : null;
+    }
+
+    public List<TwoLevelCache> getTwoLevelCaches() {
+        return getCacheNames().stream()
+                .map(this::getCache)
+                .filter(TwoLevelCache.class::isInstance)
+                .map(TwoLevelCache.class::cast)
+                .toList();
+    }
+
+    private TwoLevelCache createCache(String name) {
+        TwoLevelCache cache = new TwoLevelCache(
+                name,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaximumSize)
+                        .expireAfterWrite(localTtl)
+                        .<String, TwoLevelCache.LocalEntry>build(),
+                remoteCacheManager.getCache(name),
+                broadcaster,
+                reader,
+                stampede
+        );
+        broadcaster.register(cache);
+        return cache;
+    }
+}
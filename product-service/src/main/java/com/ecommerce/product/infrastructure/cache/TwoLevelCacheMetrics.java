@@ -0,0 +1,51 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes per-level hit and miss counts and hit ratios for every two-level cache,
+ * e.g. {@code cache.level.hit.ratio{cache=products,level=l1}}, plus load and
+ * early-refresh counts.
+ */
+public class TwoLevelCacheMetrics implements MeterBinder {
+
+    private final TwoLevelCacheManager cacheManager;
+
+    public TwoLevelCacheMetrics(TwoLevelCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (TwoLevelCache cache : cacheManager.getTwoLevelCaches()) {
+            bindLevel(registry, cache, "l1", TwoLevelCache::localHits, TwoLevelCache::localMisses, TwoLevelCache::localHitRatio);
+            bindLevel(registry, cache, "l2", TwoLevelCache::remoteHits, TwoLevelCache::remoteMisses, TwoLevelCache::remoteHitRatio);
+            FunctionCounter.builder("cache.loads", cache, TwoLevelCache::loads)
+                    .tags("cache", cache.getName())
+                    .register(registry);
+            FunctionCounter.builder("cache.early.refreshes", cache, TwoLevelCache::earlyRefreshes)
+                    .tags("cache", cache.getName())
+                    .register(registry);
+        }
+    }
+
+    private void bindLevel(MeterRegistry registry, TwoLevelCache cache, String level,
+                           ToDoubleFunction<TwoLevelCache> hits,
+                           ToDoubleFunction<TwoLevelCache> misses,
+                           ToDoubleFunction<TwoLevelCache> hitRatio) {
+        FunctionCounter.builder("cache.level.gets", cache, hits)
+                .tags("cache", cache.getName(), "level", level, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.level.gets", cache, misses)
+                .tags("cache", cache.getName(), "level", level, "result", "miss")
+                .register(registry);
+        Gauge.builder("cache.level.hit.ratio", cache, hitRatio)
+                .tags("cache", cache.getName(), "level", level)
+                .register(registry);
+    }
+}
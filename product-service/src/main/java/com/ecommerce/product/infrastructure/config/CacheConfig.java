@@ -1,12 +1,30 @@
 package com.ecommerce.product.infrastructure.config;
 
-import org.springframework.cache.CacheManager;
+import com.ecommerce.product.application.dto.ProductDto;
+import com.ecommerce.product.application.dto.ProductIdPage;
+import com.ecommerce.product.infrastructure.cache.CacheInvalidationBroadcaster;
+import com.ecommerce.product.infrastructure.cache.CacheValueSerializers;
+import com.ecommerce.product.infrastructure.cache.CategoryTreeCache;
+import com.ecommerce.product.domain.repository.ProductRepository;
+import com.ecommerce.product.infrastructure.cache.JitteredTtl;
+import com.ecommerce.product.infrastructure.cache.ProductIdFilter;
+import com.ecommerce.product.infrastructure.cache.RedisCacheReader;
+import com.ecommerce.product.infrastructure.cache.RedisLoadLock;
+import com.ecommerce.product.infrastructure.cache.StampedeProtection;
+import com.ecommerce.product.infrastructure.cache.TwoLevelCacheManager;
+import com.ecommerce.product.infrastructure.cache.TwoLevelCacheMetrics;
+import com.ecommerce.product.infrastructure.search.ProductIndexer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -19,9 +37,44 @@ public class CacheConfig {
 
     public static final String PRODUCT_CACHE = "products";
     public static final String PRODUCT_LIST_CACHE = "productList";
+    public static final String PRODUCT_MISS_CACHE = "productMisses";
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheInvalidationBroadcaster cacheInvalidationBroadcaster(StringRedisTemplate redisTemplate) {
+        return new CacheInvalidationBroadcaster(redisTemplate);
+    }
+
+    /**
+     * Coalesces reloads of a key within the instance and, when enabled, across
+     * instances through a short Redis lock.
+     */
+    @Bean
+    public StampedeProtection stampedeProtection(StringRedisTemplate redisTemplate,
+                                                 @Value("${product.cache.stampede.distributed-lock:false}") boolean distributedLock,
+                                                 @Value("${product.cache.stampede.lock-timeout:5s}") Duration lockTimeout,
+                                                 @Value("${product.cache.stampede.lock-wait:2s}") Duration lockWait,
+                                                 @Value("${product.cache.stampede.early-refresh-beta:1.0}") double earlyRefreshBeta) {
+        SimpleAsyncTaskExecutor refreshExecutor = new SimpleAsyncTaskExecutor("cache-refresh-");
+        refreshExecutor.setVirtualThreads(true);
+
+        RedisLoadLock loadLock = distributedLock ? new RedisLoadLock(redisTemplate, lockTimeout) : null;
+        return new StampedeProtection(loadLock, lockWait, earlyRefreshBeta, refreshExecutor);
+    }
+
+    /**
+     * Caffeine L1 in front of Redis L2. The L1 TTL is kept short relative to the
+     * Redis TTLs so a missed invalidation cannot serve stale data for long.
+     * Product caches share the default key serializer and use a typed value
+     * serializer in the configured format.
+     */
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             CacheInvalidationBroadcaster broadcaster,
+                                             StampedeProtection stampedeProtection,
+                                             @Value("${product.cache.ttl-jitter:0.1}") double ttlJitter,
+                                             @Value("${product.cache.local.maximum-size:10000}") long localMaximumSize,
+                                             @Value("${product.cache.local.ttl:60s}") Duration localTtl,
+                                             @Value("${product.cache.serialization:smile}") String serialization) {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10))
                 .serializeKeysWith(
@@ -32,12 +85,51 @@ public class CacheConfig {
                 )
                 .disableCachingNullValues();
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
-                .withCacheConfiguration(PRODUCT_CACHE,
-                        RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(30)))
-                .withCacheConfiguration(PRODUCT_LIST_CACHE,
-                        RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(5)))
+                .withCacheConfiguration(PRODUCT_CACHE, defaultConfig
+                        .entryTtl(new JitteredTtl(Duration.ofMinutes(30), ttlJitter))
+                        .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                                CacheValueSerializers.forType(serialization, ProductDto.class))))
+                .withCacheConfiguration(PRODUCT_LIST_CACHE, defaultConfig
+                        .entryTtl(new JitteredTtl(Duration.ofMinutes(5), ttlJitter))
+                        .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                                CacheValueSerializers.forType(serialization, ProductIdPage.class))))
+                .withCacheConfiguration(PRODUCT_MISS_CACHE, defaultConfig
+                        .entryTtl(Duration.ofSeconds(60))
+                        .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                                CacheValueSerializers.forType(serialization, Boolean.class))))
                 .build();
+
+        return new TwoLevelCacheManager(redisCacheManager, broadcaster, new RedisCacheReader(connectionFactory),
+                stampedeProtection, localMaximumSize, localTtl);
+    }
+
+    @Bean
+    public TwoLevelCacheMetrics twoLevelCacheMetrics(TwoLevelCacheManager cacheManager) {
+        return new TwoLevelCacheMetrics(cacheManager);
+    }
+
+    @Bean
+    public ProductIdFilter productIdFilter(ProductRepository productRepository,
+                                           StringRedisTemplate redisTemplate,
+                                           @Value("${product.id-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                           @Value("${product.id-filter.fallback-lookups-per-second:20}") int fallbackLookupsPerSecond) {
+        return new ProductIdFilter(productRepository, redisTemplate, falsePositiveRate, fallbackLookupsPerSecond);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           CacheInvalidationBroadcaster broadcaster,
+                                                                           ProductIdFilter productIdFilter,
+                                                                           ProductIndexer productIndexer,
+                                                                           CategoryTreeCache categoryTreeCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(broadcaster, new ChannelTopic(CacheInvalidationBroadcaster.CHANNEL));
+        container.addMessageListener(productIdFilter, new ChannelTopic(ProductIdFilter.CHANNEL));
+        container.addMessageListener(productIndexer, new ChannelTopic(ProductIndexer.CHANNEL));
+        container.addMessageListener(categoryTreeCache, new ChannelTopic(CategoryTreeCache.CHANNEL));
+        return container;
     }
 }
@@ -0,0 +1,28 @@
+package com.ecommerce.product.infrastructure.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Configuration
+public class HttpCachingConfig {
+
+    /**
+     * Listing pages get a strong ETag hashed from the response body, so it covers
+     * the page contents, totals and any {@code fields=} selection alike. A matching
+     * If-None-Match is answered with 304 and no body. Single products set their own
+     * ETag, which the filter leaves alone.
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> listingEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns(
+                "/api/products",
+                "/api/products/scroll",
+                "/api/products/facets",
+                "/api/products/category/*");
+        return registration;
+    }
+}
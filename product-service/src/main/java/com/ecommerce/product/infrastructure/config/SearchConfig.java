@@ -0,0 +1,33 @@
+package com.ecommerce.product.infrastructure.config;
+
+import com.ecommerce.product.domain.repository.ProductRepository;
+import com.ecommerce.product.infrastructure.search.ProductFacetIndex;
+import com.ecommerce.product.infrastructure.search.ProductIndexer;
+import com.ecommerce.product.infrastructure.search.ProductSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.file.Path;
+
+@Configuration
+public class SearchConfig {
+
+    /**
+     * Lucene allows one writer per directory, so every instance needs its own.
+     */
+    @Bean(destroyMethod = "close")
+    public ProductSearchIndex productSearchIndex(@Value("${product.search.index-directory}") Path indexDirectory) {
+        return new ProductSearchIndex(indexDirectory);
+    }
+
+    @Bean
+    public ProductIndexer productIndexer(ProductSearchIndex productSearchIndex,
+                                         ProductFacetIndex productFacetIndex,
+                                         ProductRepository productRepository,
+                                         StringRedisTemplate redisTemplate,
+                                         @Value("${product.search.rebuild-batch-size:1000}") int rebuildBatchSize) {
+        return new ProductIndexer(productSearchIndex, productFacetIndex, productRepository, redisTemplate, rebuildBatchSize);
+    }
+}
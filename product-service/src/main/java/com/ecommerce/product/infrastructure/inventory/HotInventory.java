@@ -0,0 +1,266 @@
+package com.ecommerce.product.infrastructure.inventory;
+
+import com.ecommerce.product.infrastructure.persistence.ProductJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stock of top-selling products kept in Redis, where each reservation is one atomic
+ * Lua script instead of a row lock. Postgres stays the durable copy: changed
+ * products are queued in a dirty set and written behind by {@link InventoryWriteBehind},
+ * and a product whose Redis entry is missing (e.g. after a Redis restart) is
+ * reloaded from Postgres on first use.
+ */
+@Slf4j
+@Component
+public class HotInventory {
+
+    static final String KEY_PREFIX = "inventory:";
+    static final String DIRTY_KEY = "inventory:dirty";
+    static final String STOCK_FIELD = "stock";
+    static final String VERSION_FIELD = "version";
+    static final String DELTA_SOURCE_PREFIX = "deltas:";
+
+    private static final long NOT_LOADED = -2;
+    private static final long INSUFFICIENT = -1;
+
+    // KEYS: stock hash, reservation log, dirty set; ARGV: delta, product ID, log length, clamp at zero,
+    // and optionally a source field and sequence: a sequence at or below the source's last is skipped
+    private static final RedisScript<Long> CHANGE = new DefaultRedisScript<>("""
+            local stock = redis.call('HGET', KEYS[1], 'stock')
+            if not stock then return -2 end
+            if ARGV[5] then
+                local applied = redis.call('HGET', KEYS[1], ARGV[5])
+                if applied and tonumber(applied) >= tonumber(ARGV[6]) then return tonumber(stock) end
+                redis.call('HSET', KEYS[1], ARGV[5], ARGV[6])
+            end
+            local delta = tonumber(ARGV[1])
+            if tonumber(stock) + delta < 0 then
+                if ARGV[4] ~= '1' then return -1 end
+                delta = -tonumber(stock)
+            end
+            local remaining = redis.call('HINCRBY', KEYS[1], 'stock', delta)
+            redis.call('HINCRBY', KEYS[1], 'version', 1)
+            redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[3], '*', 'delta', delta, 'stock', remaining)
+            redis.call('SADD', KEYS[3], ARGV[2])
+            return remaining
+            """, Long.class);
+
+    // KEYS: stock hash, dirty set; ARGV: stock, product ID
+    private static final RedisScript<Long> SET = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end
+            redis.call('HSET', KEYS[1], 'stock', ARGV[1])
+            redis.call('HINCRBY', KEYS[1], 'version', 1)
+            redis.call('SADD', KEYS[2], ARGV[2])
+            return tonumber(ARGV[1])
+            """, Long.class);
+
+    // KEYS: stock hash; ARGV: stock and version loaded from Postgres. A live entry is never overwritten.
+    private static final RedisScript<Long> LOAD = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            redis.call('HSET', KEYS[1], 'stock', ARGV[1], 'version', ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS: stock hash, reservation log, dirty set; ARGV: product ID. Returns the final stock.
+    private static final RedisScript<Long> RETIRE = new DefaultRedisScript<>("""
+            local stock = redis.call('HGET', KEYS[1], 'stock')
+            redis.call('DEL', KEYS[1], KEYS[2])
+            redis.call('SREM', KEYS[3], ARGV[1])
+            if not stock then return -2 end
+            return tonumber(stock)
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ProductJpaRepository jpaRepository;
+    private final String logLength;
+    private final Set<UUID> managed = ConcurrentHashMap.newKeySet();
+
+    public HotInventory(StringRedisTemplate redisTemplate,
+                        ProductJpaRepository jpaRepository,
+                        @Value("${product.inventory.hot.log-length:10000}") int logLength) {
+        this.redisTemplate = redisTemplate;
+        this.jpaRepository = jpaRepository;
+        this.logLength = String.valueOf(logLength);
+    }
+
+    /**
+     * Result of a stock change attempted in Redis. Unmanaged products are left to Postgres.
+     */
+    public record StockChange(boolean managed, OptionalInt remaining) {
+
+        static final StockChange UNMANAGED = new StockChange(false, OptionalInt.empty());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        managed.addAll(jpaRepository.findHotInventoryIds());
+        log.info("Redis inventory manages {} products", managed.size());
+    }
+
+    /**
+     * Takes stock in Redis. If the surrounding transaction rolls back, the stock is
+     * given back, so a multi-product reservation stays all-or-nothing.
+     */
+    public StockChange reserve(UUID productId, int quantity) {
+        StockChange change = apply(productId, -quantity);
+        if (change.remaining().isPresent() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        apply(productId, quantity);
+                    }
+                }
+            });
+        }
+        return change;
+    }
+
+    public StockChange release(UUID productId, int quantity) {
+        return apply(productId, quantity);
+    }
+
+    /**
+     * Applies a warehouse delta from segment {@code sequence} of stock delta log
+     * {@code logId}; a shrinkage larger than the stock leaves zero. The entry records
+     * the last sequence applied per log, so a replayed segment is applied once.
+     */
+    public StockChange adjust(UUID productId, int delta, UUID logId, long sequence) {
+        if (!managed.contains(productId)) {
+            return StockChange.UNMANAGED;
+        }
+        List<String> source = List.of(DELTA_SOURCE_PREFIX + logId, String.valueOf(sequence));
+        long result = change(productId, delta, true, source);
+        if (result == NOT_LOADED) {
+            if (!adopt(productId)) {
+                return StockChange.UNMANAGED;
+            }
+            result = change(productId, delta, true, source);
+        }
+        return new StockChange(true, OptionalInt.of((int) result));
+    }
+
+    public StockChange setStock(UUID productId, int quantity) {
+        if (!managed.contains(productId)) {
+            return StockChange.UNMANAGED;
+        }
+        Long result = redisTemplate.execute(SET, List.of(stockKey(productId), DIRTY_KEY),
+                String.valueOf(quantity), productId.toString());
+        if (result == null || result == NOT_LOADED) {
+            managed.remove(productId);
+            return StockChange.UNMANAGED;
+        }
+        return new StockChange(true, OptionalInt.of(result.intValue()));
+    }
+
+    public OptionalInt currentStock(UUID productId) {
+        Object stock = redisTemplate.opsForHash().get(stockKey(productId), STOCK_FIELD);
+        return stock != null ? OptionalInt.of(Integer.parseInt(stock.toString())) : OptionalInt.empty();
+    }
+
+    /**
+     * Checks Postgres for a product this instance does not know as Redis-managed,
+     * e.g. one enabled on another instance, and loads its stock into Redis if so.
+     * The Redis version resumes from the last one written behind, so later flushes
+     * are newer than the row. The product row stays locked until the caller's
+     * transaction ends.
+     */
+    @Transactional
+    public boolean adopt(UUID productId) {
+        Optional<Integer> stock = jpaRepository.lockHotInventory(productId);
+        if (stock.isEmpty()) {
+            managed.remove(productId);
+            return false;
+        }
+        long version = jpaRepository.findHotInventoryVersion(productId).orElse(0L);
+        redisTemplate.execute(LOAD, List.of(stockKey(productId)), String.valueOf(stock.get()),
+                String.valueOf(version));
+        managed.add(productId);
+        return true;
+    }
+
+    /**
+     * Moves a product's stock to Redis. Its stock is loaded on the first reservation.
+     */
+    @Transactional
+    public boolean enable(UUID productId) {
+        Optional<Integer> stock = jpaRepository.lockStock(productId);
+        if (stock.isEmpty()) {
+            return jpaRepository.lockHotInventory(productId).isPresent();
+        }
+        jpaRepository.updateHotInventory(productId, true, stock.get());
+        managed.add(productId);
+        return true;
+    }
+
+    /**
+     * Hands a product back to Postgres with the final Redis stock. Other instances
+     * find the Redis entry gone, re-check Postgres and stop routing the product here.
+     */
+    @Transactional
+    public boolean disable(UUID productId) {
+        Optional<Integer> stored = jpaRepository.lockHotInventory(productId);
+        if (stored.isEmpty()) {
+            return jpaRepository.findStockSlots(productId).isPresent();
+        }
+        Long retired = redisTemplate.execute(RETIRE,
+                List.of(stockKey(productId), logKey(productId), DIRTY_KEY), productId.toString());
+        int stock = retired == null || retired == NOT_LOADED ? stored.get() : retired.intValue();
+        jpaRepository.updateHotInventory(productId, false, stock);
+        managed.remove(productId);
+        return true;
+    }
+
+    private StockChange apply(UUID productId, int delta) {
+        return apply(productId, delta, false);
+    }
+
+    private StockChange apply(UUID productId, int delta, boolean clamp) {
+        if (!managed.contains(productId)) {
+            return StockChange.UNMANAGED;
+        }
+        long result = change(productId, delta, clamp, List.of());
+        if (result == NOT_LOADED) {
+            if (!adopt(productId)) {
+                return StockChange.UNMANAGED;
+            }
+            result = change(productId, delta, clamp, List.of());
+        }
+        return new StockChange(true, result == INSUFFICIENT ? OptionalInt.empty() : OptionalInt.of((int) result));
+    }
+
+    private long change(UUID productId, int delta, boolean clamp, List<String> source) {
+        List<String> args = new ArrayList<>(List.of(String.valueOf(delta), productId.toString(), logLength,
+                clamp ? "1" : "0"));
+        args.addAll(source);
+        Long result = redisTemplate.execute(CHANGE,
+                List.of(stockKey(productId), logKey(productId), DIRTY_KEY), args.toArray());
+        return result != null ? result : NOT_LOADED;
+    }
+
+    static String stockKey(UUID productId) {
+        return KEY_PREFIX + productId;
+    }
+
+    private static String logKey(UUID productId) {
+        return KEY_PREFIX + productId + ":log";
+    }
+}
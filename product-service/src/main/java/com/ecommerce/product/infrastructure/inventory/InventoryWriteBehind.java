@@ -0,0 +1,110 @@
+package com.ecommerce.product.infrastructure.inventory;
+
+import com.ecommerce.product.infrastructure.persistence.ProductJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Flushes Redis-managed stock to Postgres in coalesced batches: however many
+ * reservations a product took since the last flush, it costs one row update.
+ * <p>
+ * Every instance flushes, so the row keeps the Redis version it was written from
+ * and a flush only writes a newer version: one that read Redis before another
+ * instance's flush cannot roll the row back. A product leaves the dirty set only if
+ * its version is unchanged since it was read, i.e. after its latest value reached
+ * Postgres. A crash in between leaves it dirty and the next flush, here or on
+ * another instance, writes it again.
+ */
+@Slf4j
+@Component
+public class InventoryWriteBehind {
+
+    // KEYS: stock hash, dirty set; ARGV: flushed version, product ID
+    private static final RedisScript<Long> MARK_FLUSHED = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'version') == ARGV[1] then
+                return redis.call('SREM', KEYS[2], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ProductJpaRepository jpaRepository;
+    private final int batchSize;
+
+    public InventoryWriteBehind(StringRedisTemplate redisTemplate,
+                                ProductJpaRepository jpaRepository,
+                                @Value("${product.inventory.hot.flush-batch-size:500}") int batchSize) {
+        this.redisTemplate = redisTemplate;
+        this.jpaRepository = jpaRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${product.inventory.hot.flush-interval:PT1S}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Inventory write-behind failed, retrying on next run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Writes one batch of dirty products to Postgres.
+     *
+     * @return the number of products flushed
+     */
+    public int flush() {
+        Set<String> members = redisTemplate.opsForSet().distinctRandomMembers(HotInventory.DIRTY_KEY, batchSize);
+        if (members == null || members.isEmpty()) {
+            return 0;
+        }
+        List<String> dirty = List.copyOf(members);
+
+        List<Object> snapshots = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection strings = (StringRedisConnection) connection;
+            dirty.forEach(id -> strings.hMGet(HotInventory.KEY_PREFIX + id,
+                    HotInventory.STOCK_FIELD, HotInventory.VERSION_FIELD));
+            return null;
+        });
+
+        List<UUID> ids = new ArrayList<>();
+        List<Integer> stocks = new ArrayList<>();
+        List<Long> versions = new ArrayList<>();
+        for (int i = 0; i < dirty.size(); i++) {
+            List<?> fields = (List<?>) snapshots.get(i);
+            if (fields == null || fields.get(0) == null) {
+                // Retired or lost entry: nothing left to write
+                redisTemplate.opsForSet().remove(HotInventory.DIRTY_KEY, dirty.get(i));
+                continue;
+            }
+            ids.add(UUID.fromString(dirty.get(i)));
+            stocks.add(Integer.parseInt(fields.get(0).toString()));
+            versions.add(Long.parseLong(fields.get(1).toString()));
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        jpaRepository.writeBackStock(ids.toArray(UUID[]::new), stocks.stream().mapToInt(Integer::intValue).toArray(),
+                versions.stream().mapToLong(Long::longValue).toArray());
+
+        for (int i = 0; i < ids.size(); i++) {
+            UUID id = ids.get(i);
+            redisTemplate.execute(MARK_FLUSHED, List.of(HotInventory.stockKey(id), HotInventory.DIRTY_KEY),
+                    versions.get(i).toString(), id.toString());
+        }
+        return ids.size();
+    }
+}
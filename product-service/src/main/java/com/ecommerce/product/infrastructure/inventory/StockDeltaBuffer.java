@@ -0,0 +1,127 @@
+package com.ecommerce.product.infrastructure.inventory;
+
+import com.ecommerce.product.domain.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.ecommerce.product.infrastructure.config.CacheConfig.PRODUCT_CACHE;
+
+/**
+ * Coalesces warehouse stock deltas per product. Deltas are logged to disk and
+ * summed in memory; every flush window each product's net change is applied with
+ * one batched UPDATE, so database writes grow with the number of distinct products
+ * per window, not with delta volume.
+ * <p>
+ * Each flush seals the current log segment and applies it. A segment that fails,
+ * or that a crash left behind, is replayed from disk on the next flush. Postgres
+ * and each Redis-managed product remember the last sequence applied from this log,
+ * so a replay never counts twice, and a segment is deleted only once both have
+ * applied it. Every instance needs its own log directory.
+ */
+@Slf4j
+@Component
+public class StockDeltaBuffer {
+
+    private final StockDeltaLog deltaLog;
+    private final ProductRepository productRepository;
+    private final HotInventory hotInventory;
+    private final CacheManager cacheManager;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<UUID, Integer> pending = new HashMap<>();
+
+    public StockDeltaBuffer(@Value("${product.inventory.deltas.log-directory}") Path logDirectory,
+                            ProductRepository productRepository,
+                            HotInventory hotInventory,
+                            CacheManager cacheManager) {
+        this.deltaLog = new StockDeltaLog(logDirectory);
+        this.productRepository = productRepository;
+        this.hotInventory = hotInventory;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Returns once the deltas are durable on local disk.
+     */
+    public void append(Map<UUID, Integer> deltas) {
+        lock.lock();
+        try {
+            deltaLog.append(deltas);
+            deltas.forEach((productId, delta) -> pending.merge(productId, delta, Integer::sum));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.inventory.deltas.flush-interval:PT0.2S}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Stock delta flush failed, replaying from the log on next run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Applies segments left by earlier failures or runs, then the deltas buffered
+     * since the last flush.
+     *
+     * @return the number of product rows written
+     */
+    public int flush() {
+        int written = 0;
+        for (StockDeltaLog.Segment segment : deltaLog.sealedSegments()) {
+            written += apply(segment, deltaLog.read(segment));
+        }
+
+        Map<UUID, Integer> batch;
+        StockDeltaLog.Segment segment;
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return written;
+            }
+            batch = pending;
+            pending = new HashMap<>();
+            segment = deltaLog.rotate();
+        } finally {
+            lock.unlock();
+        }
+        return written + apply(segment, batch);
+    }
+
+    private int apply(StockDeltaLog.Segment segment, Map<UUID, Integer> deltas) {
+        deltas.values().removeIf(delta -> delta == 0);
+        int written = 0;
+        if (!deltas.isEmpty()) {
+            // Empty when a crash came after the Postgres commit; Redis may still be missing its part
+            Set<UUID> updated = productRepository.applyStockDeltas(deltaLog.logId(), segment.sequence(), deltas)
+                    .orElse(Set.of());
+            written = updated.size();
+            applyToRedisManaged(segment, deltas, updated);
+        }
+        deltaLog.delete(segment);
+        return written;
+    }
+
+    // Postgres skipped these; Redis skips a segment it has already applied
+    private void applyToRedisManaged(StockDeltaLog.Segment segment, Map<UUID, Integer> deltas, Set<UUID> updated) {
+        Cache productCache = cacheManager.getCache(PRODUCT_CACHE);
+        deltas.forEach((productId, delta) -> {
+            if (!updated.contains(productId) && hotInventory.adopt(productId)) {
+                hotInventory.adjust(productId, delta, deltaLog.logId(), segment.sequence());
+            }
+            productCache.evict(productId);
+        });
+    }
+}
@@ -0,0 +1,152 @@
+package com.ecommerce.product.infrastructure.inventory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Append-only segment files behind the in-memory stock delta buffer. Each append is
+ * forced to disk before it is acknowledged, so buffered deltas survive a crash.
+ * Segments are numbered in order and deleted once their deltas are in Postgres.
+ * <p>
+ * Records are fixed-size (product ID, delta); a torn record at the end of a segment
+ * was never acknowledged and is ignored on read.
+ */
+class StockDeltaLog {
+
+    private static final int RECORD_BYTES = 2 * Long.BYTES + Integer.BYTES;
+    private static final String SEGMENT_SUFFIX = ".deltas";
+    private static final String LOG_ID_FILE = "log-id";
+
+    record Segment(long sequence, Path path) {}
+
+    private final Path directory;
+    private final UUID logId;
+    private long nextSequence;
+    private Segment current;
+    private FileChannel channel;
+
+    StockDeltaLog(Path directory) {
+        try {
+            this.directory = Files.createDirectories(directory);
+            this.logId = readOrCreateLogId();
+            this.nextSequence = segments().stream().mapToLong(Segment::sequence).max().orElse(0) + 1;
+            openSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open stock delta log in " + directory, e);
+        }
+    }
+
+    /**
+     * Identifies this log to Postgres, which remembers the last segment applied from it.
+     */
+    UUID logId() {
+        return logId;
+    }
+
+    void append(Map<UUID, Integer> deltas) {
+        ByteBuffer buffer = ByteBuffer.allocate(deltas.size() * RECORD_BYTES);
+        deltas.forEach((productId, delta) -> buffer
+                .putLong(productId.getMostSignificantBits())
+                .putLong(productId.getLeastSignificantBits())
+                .putInt(delta));
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to stock delta log", e);
+        }
+    }
+
+    /**
+     * Seals the current segment and starts a new one.
+     */
+    Segment rotate() {
+        Segment sealed = current;
+        try {
+            channel.close();
+            openSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot rotate stock delta log", e);
+        }
+        return sealed;
+    }
+
+    /**
+     * Segments no longer appended to, oldest first: those left by a failed flush or
+     * by a previous run.
+     */
+    List<Segment> sealedSegments() {
+        return segments().stream()
+                .filter(segment -> segment.sequence() != current.sequence())
+                .toList();
+    }
+
+    Map<UUID, Integer> read(Segment segment) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment.path()));
+            Map<UUID, Integer> deltas = new HashMap<>();
+            while (buffer.remaining() >= RECORD_BYTES) {
+                UUID productId = new UUID(buffer.getLong(), buffer.getLong());
+                deltas.merge(productId, buffer.getInt(), Integer::sum);
+            }
+            return deltas;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read stock delta segment " + segment.path(), e);
+        }
+    }
+
+    void delete(Segment segment) {
+        try {
+            Files.deleteIfExists(segment.path());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete stock delta segment " + segment.path(), e);
+        }
+    }
+
+    private void openSegment() throws IOException {
+        long sequence = nextSequence++;
+        Path path = directory.resolve(String.format("%020d%s", sequence, SEGMENT_SUFFIX));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        current = new Segment(sequence, path);
+    }
+
+    private List<Segment> segments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .map(path -> {
+                        String name = path.getFileName().toString();
+                        return new Segment(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())), path);
+                    })
+                    .sorted(Comparator.comparingLong(Segment::sequence))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list stock delta log " + directory, e);
+        }
+    }
+
+    private UUID readOrCreateLogId() throws IOException {
+        Path file = directory.resolve(LOG_ID_FILE);
+        if (Files.exists(file)) {
+            return UUID.fromString(Files.readString(file, StandardCharsets.UTF_8).trim());
+        }
+        UUID id = UUID.randomUUID();
+        Files.writeString(file, id.toString(), StandardCharsets.UTF_8);
+        return id;
+    }
+}
@@ -0,0 +1,40 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CategoryJpaRepository extends JpaRepository<CategoryJpaEntity, UUID> {
+
+    List<CategoryJpaEntity> findByParentId(UUID parentId);
+
+    /**
+     * Every category reachable from a root, parents before children, with the number
+     * of products filed directly under it. One round trip for the whole tree.
+     */
+    @Query(nativeQuery = true, value = """
+        WITH RECURSIVE tree AS (
+            SELECT id, parent_id, name, ARRAY[id] AS path
+            FROM categories
+            WHERE parent_id IS NULL
+            UNION ALL
+            SELECT c.id, c.parent_id, c.name, t.path || c.id
+            FROM categories c
+            JOIN tree t ON c.parent_id = t.id
+        )
+        SELECT t.id, t.parent_id, t.name, COALESCE(p.product_count, 0)
+        FROM tree t
+        LEFT JOIN (
+            SELECT category_id, COUNT(*) AS product_count
+            FROM products
+            WHERE category_id IS NOT NULL
+            GROUP BY category_id
+        ) p ON p.category_id = t.id
+        ORDER BY t.path
+        """)
+    List<Object[]> findTree();
+}
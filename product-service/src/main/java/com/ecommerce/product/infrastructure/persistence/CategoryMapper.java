@@ -0,0 +1,44 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.product.domain.entity.Category;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+
+@Component
+public class CategoryMapper {
+
+    public CategoryJpaEntity toJpaEntity(Category category) {
+        CategoryJpaEntity entity = new CategoryJpaEntity();
+        entity.setId(category.getId());
+        entity.setName(category.getName());
+        entity.setDescription(category.getDescription());
+        entity.setParentId(category.getParentId());
+        entity.setCreatedAt(category.getCreatedAt());
+        entity.setUpdatedAt(category.getUpdatedAt());
+        return entity;
+    }
+
+    public Category toDomain(CategoryJpaEntity entity) {
+        try {
+            var constructor = Category.class.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            Category category = constructor.newInstance();
+            setField(category, "id", entity.getId());
+            setField(category, "name", entity.getName());
+            setField(category, "description", entity.getDescription());
+            setField(category, "parentId", entity.getParentId());
+            setField(category, "createdAt", entity.getCreatedAt());
+            setField(category, "updatedAt", entity.getUpdatedAt());
+            return category;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to map JPA entity to domain", e);
+        }
+    }
+
+    private void setField(Category category, String fieldName, Object value) throws Exception {
+        Field field = Category.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(category, value);
+    }
+}
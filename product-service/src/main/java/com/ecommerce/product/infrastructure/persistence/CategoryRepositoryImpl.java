@@ -0,0 +1,56 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.product.domain.entity.Category;
+import com.ecommerce.product.domain.repository.CategoryRepository;
+import com.ecommerce.product.domain.valueobject.CategoryTreeEntry;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public class CategoryRepositoryImpl implements CategoryRepository {
+
+    private final CategoryJpaRepository jpaRepository;
+    private final CategoryMapper mapper;
+
+    public CategoryRepositoryImpl(CategoryJpaRepository jpaRepository, CategoryMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Category save(Category category) {
+        CategoryJpaEntity entity = jpaRepository.save(mapper.toJpaEntity(category));
+        return mapper.toDomain(entity);
+    }
+
+    @Override
+    public Optional<Category> findById(UUID id) {
+        return jpaRepository.findById(id).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<Category> findAll() {
+        return jpaRepository.findAll().stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Category> findByParentId(UUID parentId) {
+        return jpaRepository.findByParentId(parentId).stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public List<CategoryTreeEntry> findTree() {
+        return jpaRepository.findTree().stream()
+                .map(row -> new CategoryTreeEntry((UUID) row[0], (UUID) row[1], (String) row[2],
+                        ((Number) row[3]).longValue()))
+                .toList();
+    }
+
+    @Override
+    public void delete(Category category) {
+        jpaRepository.deleteById(category.getId());
+    }
+}
@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Formula;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -12,13 +14,14 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "products")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
 public class ProductJpaEntity {
 
+    // Assigned by Product.create
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(nullable = false)
@@ -39,6 +42,13 @@ public class ProductJpaEntity {
     @Column(name = "stock_quantity", nullable = false)
     private Integer stockQuantity;
 
+    @Column(name = "stock_slots", insertable = false, updatable = false)
+    private Short stockSlots;
+
+    // Includes stock held in hot-SKU slots
+    @Formula("stock_quantity + COALESCE((SELECT SUM(s.quantity) FROM product_stock_slots s WHERE s.product_id = id), 0)")
+    private Integer availableStock;
+
     @Column(name = "category_id")
     private UUID categoryId;
 
@@ -1,10 +1,19 @@
 package com.ecommerce.product.infrastructure.persistence;
 
+import com.ecommerce.product.domain.valueobject.ProductSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,7 +25,403 @@ public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, UU
 
     List<ProductJpaEntity> findByIdIn(List<UUID> ids);
 
+    @Query("SELECT p.id FROM ProductJpaEntity p")
+    List<UUID> findAllIds();
+
+    List<ProductJpaEntity> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    @Query("SELECT p.id FROM ProductJpaEntity p WHERE p.updatedAt >= :since")
+    List<UUID> findIdsUpdatedSince(@Param("since") Instant since);
+
+    /**
+     * First page of full-text matches, best first. The GIN index finds the matches;
+     * only those are ranked.
+     */
+    @Query(nativeQuery = true, value = """
+        SELECT p.id, ts_rank(p.search_vector, q) AS rank
+        FROM products p, websearch_to_tsquery('english', :query) q
+        WHERE p.search_vector @@ q
+        ORDER BY rank DESC, p.id DESC
+        LIMIT :limit
+        """)
+    List<Object[]> search(@Param("query") String query, @Param("limit") int limit);
+
+    /**
+     * Matches after the (rank, id) keyset of the previous page's last hit.
+     */
+    @Query(nativeQuery = true, value = """
+        SELECT p.id, ts_rank(p.search_vector, q) AS rank
+        FROM products p, websearch_to_tsquery('english', :query) q
+        WHERE p.search_vector @@ q
+          AND (ts_rank(p.search_vector, q), p.id) < (CAST(:afterRank AS real), :afterId)
+        ORDER BY rank DESC, p.id DESC
+        LIMIT :limit
+        """)
+    List<Object[]> searchAfter(@Param("query") String query,
+                               @Param("afterRank") float afterRank,
+                               @Param("afterId") UUID afterId,
+                               @Param("limit") int limit);
+
     Page<ProductJpaEntity> findByCategoryId(UUID categoryId, Pageable pageable);
 
+    // Listing projections: only the columns a listing shows, never the description
+
+    @Query(value = """
+        SELECT new com.ecommerce.product.domain.valueobject.ProductSummary(
+            p.id, p.name, p.sku, p.price, p.currency, p.availableStock, p.categoryId, p.status)
+        FROM ProductJpaEntity p
+        """,
+        countQuery = "SELECT COUNT(p) FROM ProductJpaEntity p")
+    Page<ProductSummary> findSummaries(Pageable pageable);
+
+    @Query(value = """
+        SELECT new com.ecommerce.product.domain.valueobject.ProductSummary(
+            p.id, p.name, p.sku, p.price, p.currency, p.availableStock, p.categoryId, p.status)
+        FROM ProductJpaEntity p
+        WHERE p.categoryId = :categoryId
+        """,
+        countQuery = "SELECT COUNT(p) FROM ProductJpaEntity p WHERE p.categoryId = :categoryId")
+    Page<ProductSummary> findSummariesByCategoryId(@Param("categoryId") UUID categoryId, Pageable pageable);
+
+    @Query("""
+        SELECT new com.ecommerce.product.domain.valueobject.ProductSummary(
+            p.id, p.name, p.sku, p.price, p.currency, p.availableStock, p.categoryId, p.status)
+        FROM ProductJpaEntity p
+        WHERE p.id IN :ids
+        """)
+    List<ProductSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    boolean existsByCategoryId(UUID categoryId);
+
+    // Keyset listings. Each returns (id, created_at, price) rows after the given key;
+    // the first page passes a key ahead of every product.
+
+    @Query(nativeQuery = true, value = """
+        SELECT id, created_at, price FROM products
+        WHERE (created_at, id) < (:afterCreatedAt, :afterId)
+        ORDER BY created_at DESC, id DESC
+        LIMIT :limit
+        """)
+    List<Object[]> findNewestAfter(@Param("afterCreatedAt") Instant afterCreatedAt,
+                                   @Param("afterId") UUID afterId,
+                                   @Param("limit") int limit);
+
+    @Query(nativeQuery = true, value = """
+        SELECT id, created_at, price FROM products
+        WHERE category_id = :categoryId AND (created_at, id) < (:afterCreatedAt, :afterId)
+        ORDER BY created_at DESC, id DESC
+        LIMIT :limit
+        """)
+    List<Object[]> findNewestInCategoryAfter(@Param("categoryId") UUID categoryId,
+                                             @Param("afterCreatedAt") Instant afterCreatedAt,
+                                             @Param("afterId") UUID afterId,
+                                             @Param("limit") int limit);
+
+    @Query(nativeQuery = true, value = """
+        SELECT id, created_at, price FROM products
+        WHERE (price, id) > (:afterPrice, :afterId)
+        ORDER BY price, id
+        LIMIT :limit
+        """)
+    List<Object[]> findCheapestAfter(@Param("afterPrice") BigDecimal afterPrice,
+                                     @Param("afterId") UUID afterId,
+                                     @Param("limit") int limit);
+
+    @Query(nativeQuery = true, value = """
+        SELECT id, created_at, price FROM products
+        WHERE category_id = :categoryId AND (price, id) > (:afterPrice, :afterId)
+        ORDER BY price, id
+        LIMIT :limit
+        """)
+    List<Object[]> findCheapestInCategoryAfter(@Param("categoryId") UUID categoryId,
+                                               @Param("afterPrice") BigDecimal afterPrice,
+                                               @Param("afterId") UUID afterId,
+                                               @Param("limit") int limit);
+
+    @Query(nativeQuery = true, value = """
+        SELECT id, created_at, price FROM products
+        WHERE (price, id) < (:afterPrice, :afterId)
+        ORDER BY price DESC, id DESC
+        LIMIT :limit
+        """)
+    List<Object[]> findPriciestAfter(@Param("afterPrice") BigDecimal afterPrice,
+                                     @Param("afterId") UUID afterId,
+                                     @Param("limit") int limit);
+
+    @Query(nativeQuery = true, value = """
+        SELECT id, created_at, price FROM products
+        WHERE category_id = :categoryId AND (price, id) < (:afterPrice, :afterId)
+        ORDER BY price DESC, id DESC
+        LIMIT :limit
+        """)
+    List<Object[]> findPriciestInCategoryAfter(@Param("categoryId") UUID categoryId,
+                                               @Param("afterPrice") BigDecimal afterPrice,
+                                               @Param("afterId") UUID afterId,
+                                               @Param("limit") int limit);
+
+    /**
+     * One page of products filed under any of the given categories, by name.
+     */
+    @Query(nativeQuery = true, value = """
+        SELECT id FROM products
+        WHERE category_id = ANY(CAST(:categoryIds AS uuid[]))
+        ORDER BY name, id
+        LIMIT :limit OFFSET :offset
+        """)
+    List<UUID> findIdsInCategories(@Param("categoryIds") UUID[] categoryIds,
+                                   @Param("offset") long offset,
+                                   @Param("limit") int limit);
+
     boolean existsBySku(String sku);
+
+    @Transactional
+    @Query(nativeQuery = true, value = """
+        UPDATE products SET stock_quantity = stock_quantity - :quantity, updated_at = now()
+        WHERE id = :id AND stock_quantity >= :quantity AND NOT hot_inventory
+        RETURNING stock_quantity
+        """)
+    List<Integer> decrementStock(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    @Transactional
+    @Query(nativeQuery = true, value = """
+        UPDATE products SET stock_quantity = stock_quantity + :quantity, updated_at = now()
+        WHERE id = :id AND NOT hot_inventory
+        RETURNING stock_quantity
+        """)
+    List<Integer> incrementStock(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    /**
+     * Decrements every product that has enough stock. Rows are locked in ID order
+     * first so that concurrent multi-product reservations cannot deadlock.
+     */
+    @Transactional
+    @Query(nativeQuery = true, value = """
+        WITH requested AS (
+            SELECT * FROM unnest(CAST(:ids AS uuid[]), CAST(:quantities AS int[])) AS r(id, quantity)
+        ), locked AS (
+            SELECT p.id FROM products p
+            WHERE p.id IN (SELECT id FROM requested)
+            ORDER BY p.id
+            FOR UPDATE
+        )
+        UPDATE products p SET stock_quantity = p.stock_quantity - r.quantity, updated_at = now()
+        FROM requested r
+        WHERE p.id = r.id AND p.id IN (SELECT id FROM locked) AND p.stock_quantity >= r.quantity
+            AND NOT p.hot_inventory
+        RETURNING p.id, p.stock_quantity
+        """)
+    List<Object[]> decrementStockBatch(@Param("ids") UUID[] ids, @Param("quantities") int[] quantities);
+
+    @Query(nativeQuery = true, value = "SELECT stock_slots FROM products WHERE id = :id")
+    Optional<Short> findStockSlots(@Param("id") UUID id);
+
+    @Query(nativeQuery = true, value = "SELECT id FROM products WHERE stock_slots > 0")
+    List<UUID> findStripedProductIds();
+
+    @Query(nativeQuery = true, value = """
+        SELECT quantity FROM product_stock_slots WHERE product_id = :id ORDER BY slot
+        """)
+    List<Integer> findSlotQuantities(@Param("id") UUID id);
+
+    /**
+     * Takes stock from one slot that can cover the whole quantity, scanning from a
+     * random start slot and skipping slots locked by concurrent reservations.
+     * Returns the approximate total remaining stock.
+     */
+    @Transactional
+    @Query(nativeQuery = true, value = """
+        WITH target AS (
+            SELECT slot FROM product_stock_slots
+            WHERE product_id = :id AND quantity >= :quantity
+            ORDER BY slot < :start, slot
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+        ), updated AS (
+            UPDATE product_stock_slots s SET quantity = s.quantity - :quantity
+            FROM target t
+            WHERE s.product_id = :id AND s.slot = t.slot
+            RETURNING s.slot, s.quantity
+        )
+        SELECT CAST(u.quantity
+            + COALESCE((SELECT SUM(o.quantity) FROM product_stock_slots o WHERE o.product_id = :id AND o.slot <> u.slot), 0)
+            + (SELECT p.stock_quantity FROM products p WHERE p.id = :id) AS integer)
+        FROM updated u
+        """)
+    List<Integer> decrementStockSlot(@Param("id") UUID id, @Param("quantity") int quantity, @Param("start") int start);
+
+    /**
+     * Same as {@link #decrementStockSlot} but waits for locked slots; used once every
+     * unlocked slot has been found short.
+     */
+    @Transactional
+    @Query(nativeQuery = true, value = """
+        WITH target AS (
+            SELECT slot FROM product_stock_slots
+            WHERE product_id = :id AND quantity >= :quantity
+            ORDER BY slot
+            LIMIT 1
+            FOR UPDATE
+        ), updated AS (
+            UPDATE product_stock_slots s SET quantity = s.quantity - :quantity
+            FROM target t
+            WHERE s.product_id = :id AND s.slot = t.slot AND s.quantity >= :quantity
+            RETURNING s.slot, s.quantity
+        )
+        SELECT CAST(u.quantity
+            + COALESCE((SELECT SUM(o.quantity) FROM product_stock_slots o WHERE o.product_id = :id AND o.slot <> u.slot), 0)
+            + (SELECT p.stock_quantity FROM products p WHERE p.id = :id) AS integer)
+        FROM updated u
+        """)
+    List<Integer> decrementStockSlotWaiting(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    @Transactional
+    @Query(nativeQuery = true, value = """
+        WITH updated AS (
+            UPDATE product_stock_slots s SET quantity = s.quantity + :quantity
+            WHERE s.product_id = :id AND s.slot = :slot
+            RETURNING s.slot, s.quantity
+        )
+        SELECT CAST(u.quantity
+            + COALESCE((SELECT SUM(o.quantity) FROM product_stock_slots o WHERE o.product_id = :id AND o.slot <> u.slot), 0)
+            + (SELECT p.stock_quantity FROM products p WHERE p.id = :id) AS integer)
+        FROM updated u
+        """)
+    List<Integer> incrementStockSlot(@Param("id") UUID id, @Param("quantity") int quantity, @Param("slot") int slot);
+
+    /**
+     * Locks the product row and all of its slots (in slot order) and returns the total stock.
+     * Empty for products whose inventory is managed in Redis.
+     */
+    @Query(nativeQuery = true, value = """
+        WITH product AS (
+            SELECT id, stock_quantity FROM products WHERE id = :id AND NOT hot_inventory FOR UPDATE
+        ), slots AS (
+            SELECT quantity FROM product_stock_slots WHERE product_id = :id ORDER BY slot FOR UPDATE
+        )
+        SELECT CAST(p.stock_quantity + COALESCE((SELECT SUM(quantity) FROM slots), 0) AS integer)
+        FROM product p
+        """)
+    Optional<Integer> lockStock(@Param("id") UUID id);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM product_stock_slots WHERE product_id = :id")
+    void deleteStockSlots(@Param("id") UUID id);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        INSERT INTO product_stock_slots (product_id, slot, quantity)
+        SELECT :id, g, :total / :slots + CASE WHEN g < :total % :slots THEN 1 ELSE 0 END
+        FROM generate_series(0, :slots - 1) AS g
+        """)
+    void insertStockSlots(@Param("id") UUID id, @Param("slots") int slots, @Param("total") int total);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        UPDATE products SET stock_quantity = :stockQuantity, stock_slots = :slots, updated_at = now()
+        WHERE id = :id
+        """)
+    void updateStockLayout(@Param("id") UUID id, @Param("stockQuantity") int stockQuantity, @Param("slots") int slots);
+
+    @Query(nativeQuery = true, value = "SELECT id FROM products WHERE hot_inventory")
+    List<UUID> findHotInventoryIds();
+
+    /**
+     * Locks a Redis-managed product row and returns its stock; empty for other products.
+     */
+    @Query(nativeQuery = true, value = """
+        SELECT stock_quantity FROM products WHERE id = :id AND hot_inventory FOR UPDATE
+        """)
+    Optional<Integer> lockHotInventory(@Param("id") UUID id);
+
+    @Query(nativeQuery = true, value = "SELECT hot_inventory_version FROM products WHERE id = :id")
+    Optional<Long> findHotInventoryVersion(@Param("id") UUID id);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        UPDATE products SET hot_inventory = :enabled, stock_quantity = :stockQuantity, updated_at = now()
+        WHERE id = :id
+        """)
+    int updateHotInventory(@Param("id") UUID id, @Param("enabled") boolean enabled,
+                           @Param("stockQuantity") int stockQuantity);
+
+    /**
+     * Writes back absolute stock values taken from Redis, each only if its Redis
+     * version is newer than the one stored. A flush interrupted before Redis marks it
+     * done is simply repeated, and a flush that read Redis before another instance's
+     * flush cannot overwrite the newer value.
+     */
+    @Transactional
+    @Query(nativeQuery = true, value = """
+        UPDATE products p SET stock_quantity = s.stock, hot_inventory_version = s.version,
+            updated_at = CASE WHEN p.stock_quantity <> s.stock THEN now() ELSE p.updated_at END
+        FROM unnest(CAST(:ids AS uuid[]), CAST(:stocks AS int[]), CAST(:versions AS bigint[])) AS s(id, stock, version)
+        WHERE p.id = s.id AND p.hot_inventory AND s.version > p.hot_inventory_version
+        RETURNING p.id
+        """)
+    List<UUID> writeBackStock(@Param("ids") UUID[] ids, @Param("stocks") int[] stocks,
+                              @Param("versions") long[] versions);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        INSERT INTO stock_holds (hold_id, product_id, quantity, expires_at)
+        SELECT :holdId, h.product_id, h.quantity, :expiresAt
+        FROM unnest(CAST(:productIds AS uuid[]), CAST(:quantities AS int[])) AS h(product_id, quantity)
+        """)
+    void insertStockHold(@Param("holdId") UUID holdId,
+                         @Param("productIds") UUID[] productIds,
+                         @Param("quantities") int[] quantities,
+                         @Param("expiresAt") Instant expiresAt);
+
+    @Transactional
+    @Query(nativeQuery = true, value = """
+        DELETE FROM stock_holds WHERE hold_id = :holdId AND expires_at > :now
+        RETURNING product_id, quantity
+        """)
+    List<Object[]> deleteActiveStockHold(@Param("holdId") UUID holdId, @Param("now") Instant now);
+
+    @Transactional
+    @Query(nativeQuery = true, value = """
+        DELETE FROM stock_holds WHERE hold_id = :holdId
+        RETURNING product_id, quantity
+        """)
+    List<Object[]> deleteStockHold(@Param("holdId") UUID holdId);
+
+    @Transactional
+    @Query(nativeQuery = true, value = """
+        DELETE FROM stock_holds h
+        USING (
+            SELECT hold_id, product_id FROM stock_holds
+            WHERE expires_at <= :now
+            ORDER BY expires_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        ) e
+        WHERE h.hold_id = e.hold_id AND h.product_id = e.product_id
+        RETURNING h.product_id, h.quantity
+        """)
+    List<Object[]> deleteExpiredStockHolds(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * Records segment {@code sequence} of a stock delta log as applied; empty if it
+     * (or a later one) already was.
+     */
+    @Query(nativeQuery = true, value = """
+        INSERT INTO stock_delta_logs (log_id, applied_sequence) VALUES (:logId, :sequence)
+        ON CONFLICT (log_id) DO UPDATE SET applied_sequence = EXCLUDED.applied_sequence, updated_at = now()
+        WHERE stock_delta_logs.applied_sequence < EXCLUDED.applied_sequence
+        RETURNING log_id
+        """)
+    List<UUID> claimStockDeltaSegment(@Param("logId") UUID logId, @Param("sequence") long sequence);
+
+    /**
+     * Adds the net delta of every product in one statement, never going below zero.
+     * Striped products take the delta on the product row; Redis-managed ones are skipped.
+     */
+    @Query(nativeQuery = true, value = """
+        UPDATE products p SET stock_quantity = GREATEST(p.stock_quantity + d.delta, 0), updated_at = now()
+        FROM unnest(CAST(:ids AS uuid[]), CAST(:deltas AS int[])) AS d(id, delta)
+        WHERE p.id = d.id AND NOT p.hot_inventory
+        RETURNING p.id
+        """)
+    List<UUID> addStockDeltas(@Param("ids") UUID[] ids, @Param("deltas") int[] deltas);
 }
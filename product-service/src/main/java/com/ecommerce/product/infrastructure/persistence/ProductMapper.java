@@ -0,0 +1,81 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.common.domain.Money;
+import com.ecommerce.product.domain.entity.Product;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+
+@Component
+public class ProductMapper {
+
+    public ProductJpaEntity toJpaEntity(Product product) {
+        ProductJpaEntity entity = new ProductJpaEntity();
+        entity.setId(product.getId());
+        entity.setName(product.getName());
+        entity.setDescription(product.getDescription());
+        entity.setSku(product.getSku());
+        entity.setPrice(product.getPrice().amount());
+        entity.setCurrency(product.getPrice().currency().getCurrencyCode());
+        entity.setStockQuantity(product.getStockQuantity());
+        entity.setCategoryId(product.getCategoryId());
+        entity.setStatus(product.getStatus());
+        entity.setCreatedAt(product.getCreatedAt());
+        entity.setUpdatedAt(product.getUpdatedAt());
+        return entity;
+    }
+
+    /**
+     * Copies a domain product onto a loaded entity. Stock of a striped product lives
+     * in its slots and is changed only through the stock operations, never by a save.
+     */
+    public void copyToJpaEntity(Product product, ProductJpaEntity entity) {
+        entity.setName(product.getName());
+        entity.setDescription(product.getDescription());
+        entity.setSku(product.getSku());
+        entity.setPrice(product.getPrice().amount());
+        entity.setCurrency(product.getPrice().currency().getCurrencyCode());
+        if (!isStriped(entity)) {
+            entity.setStockQuantity(product.getStockQuantity());
+        }
+        entity.setCategoryId(product.getCategoryId());
+        entity.setStatus(product.getStatus());
+        entity.setUpdatedAt(product.getUpdatedAt());
+    }
+
+    public Product toDomain(ProductJpaEntity entity) {
+        try {
+            Product product = createProductInstance();
+            setField(product, "id", entity.getId());
+            setField(product, "name", entity.getName());
+            setField(product, "description", entity.getDescription());
+            setField(product, "sku", entity.getSku());
+            setField(product, "price", Money.of(entity.getPrice(), entity.getCurrency()));
+            setField(product, "stockQuantity",
+                    entity.getAvailableStock() != null ? entity.getAvailableStock() : entity.getStockQuantity());
+            setField(product, "categoryId", entity.getCategoryId());
+            setField(product, "status", entity.getStatus());
+            setField(product, "createdAt", entity.getCreatedAt());
+            setField(product, "updatedAt", entity.getUpdatedAt());
+            return product;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to map JPA entity to domain", e);
+        }
+    }
+
+    private static boolean isStriped(ProductJpaEntity entity) {
+        return entity.getStockSlots() != null && entity.getStockSlots() > 0;
+    }
+
+    private Product createProductInstance() throws Exception {
+        var constructor = Product.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor.newInstance();
+    }
+
+    private void setField(Product product, String fieldName, Object value) throws Exception {
+        Field field = Product.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(product, value);
+    }
+}
@@ -0,0 +1,342 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.product.domain.entity.Product;
+import com.ecommerce.product.domain.repository.ProductRepository;
+import com.ecommerce.product.domain.valueobject.ProductListingKey;
+import com.ecommerce.product.domain.valueobject.ProductSearchHit;
+import com.ecommerce.product.domain.valueobject.ProductSort;
+import com.ecommerce.product.domain.valueobject.ProductSummary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Repository
+public class ProductRepositoryImpl implements ProductRepository {
+
+    // First-page keys, ahead of every product in their order (prices are never negative)
+    private static final Instant LATEST = Instant.parse("9999-12-31T23:59:59Z");
+    private static final BigDecimal HIGHEST_PRICE = new BigDecimal("1E15");
+    private static final UUID LOWEST_ID = new UUID(0, 0);
+    private static final UUID HIGHEST_ID = new UUID(-1L, -1L);
+
+    private final ProductJpaRepository jpaRepository;
+    private final ProductMapper mapper;
+
+    public ProductRepositoryImpl(ProductJpaRepository jpaRepository, ProductMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    @Transactional
+    public Product save(Product product) {
+        ProductJpaEntity entity = jpaRepository.findById(product.getId())
+                .map(existing -> {
+                    mapper.copyToJpaEntity(product, existing);
+                    return existing;
+                })
+                .orElseGet(() -> mapper.toJpaEntity(product));
+        entity = jpaRepository.save(entity);
+        return mapper.toDomain(entity);
+    }
+
+    @Override
+    public Optional<Product> findById(UUID id) {
+        return jpaRepository.findById(id).map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<Product> findBySku(String sku) {
+        return jpaRepository.findBySku(sku).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<Product> findByIds(List<UUID> ids) {
+        return jpaRepository.findByIdIn(ids).stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public List<UUID> findAllIds() {
+        return jpaRepository.findAllIds();
+    }
+
+    @Override
+    public List<Product> findPageAfter(UUID afterId, int limit) {
+        return jpaRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<UUID> findIdsUpdatedSince(Instant since) {
+        return jpaRepository.findIdsUpdatedSince(since);
+    }
+
+    @Override
+    public Page<Product> findAll(Pageable pageable) {
+        return jpaRepository.findAll(pageable).map(mapper::toDomain);
+    }
+
+    @Override
+    public Page<Product> findByCategoryId(UUID categoryId, Pageable pageable) {
+        return jpaRepository.findByCategoryId(categoryId, pageable).map(mapper::toDomain);
+    }
+
+    @Override
+    public Page<ProductSummary> findSummaries(Pageable pageable) {
+        return jpaRepository.findSummaries(pageable);
+    }
+
+    @Override
+    public Page<ProductSummary> findSummariesByCategoryId(UUID categoryId, Pageable pageable) {
+        return jpaRepository.findSummariesByCategoryId(categoryId, pageable);
+    }
+
+    @Override
+    public List<ProductSummary> findSummariesByIds(Collection<UUID> ids) {
+        return jpaRepository.findSummariesByIdIn(ids);
+    }
+
+    @Override
+    public boolean existsByCategoryId(UUID categoryId) {
+        return jpaRepository.existsByCategoryId(categoryId);
+    }
+
+    @Override
+    public List<ProductListingKey> findPage(UUID categoryId, ProductSort sort, ProductListingKey after, int limit) {
+        List<Object[]> rows = switch (sort) {
+            case NEWEST -> {
+                Instant createdAt = after != null ? after.createdAt() : LATEST;
+                UUID id = after != null ? after.productId() : HIGHEST_ID;
+                yield categoryId == null
+                        ? jpaRepository.findNewestAfter(createdAt, id, limit)
+                        : jpaRepository.findNewestInCategoryAfter(categoryId, createdAt, id, limit);
+            }
+            case PRICE_ASC -> {
+                BigDecimal price = after != null ? after.price() : BigDecimal.ZERO;
+                UUID id = after != null ? after.productId() : LOWEST_ID;
+                yield categoryId == null
+                        ? jpaRepository.findCheapestAfter(price, id, limit)
+                        : jpaRepository.findCheapestInCategoryAfter(categoryId, price, id, limit);
+            }
+            case PRICE_DESC -> {
+                BigDecimal price = after != null ? after.price() : HIGHEST_PRICE;
+                UUID id = after != null ? after.productId() : HIGHEST_ID;
+                yield categoryId == null
+                        ? jpaRepository.findPriciestAfter(price, id, limit)
+                        : jpaRepository.findPriciestInCategoryAfter(categoryId, price, id, limit);
+            }
+        };
+        return rows.stream()
+                .map(row -> new ProductListingKey((UUID) row[0], toInstant(row[1]), (BigDecimal) row[2]))
+                .toList();
+    }
+
+    private static Instant toInstant(Object value) {
+        return switch (value) {
+            case Instant instant -> instant;
+            case OffsetDateTime dateTime -> dateTime.toInstant();
+            case Timestamp timestamp -> timestamp.toInstant();
+            default -> throw new IllegalStateException("Unexpected timestamp type " + value.getClass());
+        };
+    }
+
+    @Override
+    public List<UUID> findIdsInCategories(Collection<UUID> categoryIds, long offset, int limit) {
+        return jpaRepository.findIdsInCategories(categoryIds.toArray(UUID[]::new), offset, limit);
+    }
+
+    @Override
+    public List<ProductSearchHit> search(String query, ProductSearchHit after, int limit) {
+        List<Object[]> rows = after == null
+                ? jpaRepository.search(query, limit)
+                : jpaRepository.searchAfter(query, after.rank(), after.productId(), limit);
+        return rows.stream()
+                .map(row -> new ProductSearchHit((UUID) row[0], ((Number) row[1]).floatValue()))
+                .toList();
+    }
+
+    @Override
+    public void delete(Product product) {
+        jpaRepository.deleteById(product.getId());
+    }
+
+    @Override
+    public boolean existsBySku(String sku) {
+        return jpaRepository.existsBySku(sku);
+    }
+
+    /**
+     * Tries the product row first; a striped product keeps (almost) no stock there,
+     * so the conditional update matches nothing and takes no lock before falling
+     * through to the slots.
+     */
+    @Override
+    @Transactional
+    public OptionalInt reserveStock(UUID id, int quantity) {
+        OptionalInt remaining = toOptionalInt(jpaRepository.decrementStock(id, quantity));
+        if (remaining.isPresent()) {
+            return remaining;
+        }
+        int slots = jpaRepository.findStockSlots(id).orElse((short) 0);
+        return slots > 0 ? reserveFromSlots(id, quantity, slots) : OptionalInt.empty();
+    }
+
+    @Override
+    @Transactional
+    public OptionalInt releaseStock(UUID id, int quantity) {
+        Optional<Short> slots = jpaRepository.findStockSlots(id);
+        if (slots.isEmpty()) {
+            return OptionalInt.empty();
+        }
+        if (slots.get() == 0) {
+            return toOptionalInt(jpaRepository.incrementStock(id, quantity));
+        }
+        int slot = ThreadLocalRandom.current().nextInt(slots.get());
+        return toOptionalInt(jpaRepository.incrementStockSlot(id, quantity, slot));
+    }
+
+    @Override
+    @Transactional
+    public Map<UUID, Integer> reserveStock(Map<UUID, Integer> quantities) {
+        UUID[] ids = quantities.keySet().toArray(UUID[]::new);
+        int[] amounts = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            amounts[i] = quantities.get(ids[i]);
+        }
+
+        Map<UUID, Integer> remaining = new LinkedHashMap<>();
+        for (Object[] row : jpaRepository.decrementStockBatch(ids, amounts)) {
+            remaining.put((UUID) row[0], ((Number) row[1]).intValue());
+        }
+
+        // Striped products were skipped by the batch statement; take their stock from slots
+        for (Map.Entry<UUID, Integer> item : quantities.entrySet()) {
+            if (remaining.containsKey(item.getKey())) {
+                continue;
+            }
+            int slots = jpaRepository.findStockSlots(item.getKey()).orElse((short) 0);
+            if (slots > 0) {
+                reserveFromSlots(item.getKey(), item.getValue(), slots)
+                        .ifPresent(stock -> remaining.put(item.getKey(), stock));
+            }
+        }
+        return remaining;
+    }
+
+    @Override
+    @Transactional
+    public boolean setStock(UUID id, int quantity) {
+        Optional<Short> slots = jpaRepository.findStockSlots(id);
+        if (slots.isEmpty() || jpaRepository.lockStock(id).isEmpty()) {
+            return false;
+        }
+        layOutStock(id, slots.get(), quantity);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean stripeStock(UUID id, int slots) {
+        Optional<Integer> total = jpaRepository.lockStock(id);
+        total.ifPresent(stock -> layOutStock(id, slots, stock));
+        return total.isPresent();
+    }
+
+    /**
+     * Evens out the slots of a striped product once they have drifted apart, and
+     * moves any stock left on the product row into the slots.
+     */
+    @Override
+    @Transactional
+    public void rebalanceStock(UUID id) {
+        int slots = jpaRepository.findStockSlots(id).orElse((short) 0);
+        List<Integer> quantities = jpaRepository.findSlotQuantities(id);
+        if (slots == 0 || quantities.isEmpty() || !isSkewed(quantities)) {
+            return;
+        }
+        jpaRepository.lockStock(id).ifPresent(total -> layOutStock(id, slots, total));
+    }
+
+    @Override
+    @Transactional
+    public Optional<Set<UUID>> applyStockDeltas(UUID sourceId, long sequence, Map<UUID, Integer> deltas) {
+        if (jpaRepository.claimStockDeltaSegment(sourceId, sequence).isEmpty()) {
+            return Optional.empty();
+        }
+        UUID[] ids = deltas.keySet().toArray(UUID[]::new);
+        int[] amounts = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            amounts[i] = deltas.get(ids[i]);
+        }
+        return Optional.of(new HashSet<>(jpaRepository.addStockDeltas(ids, amounts)));
+    }
+
+    @Override
+    public List<UUID> findStripedProductIds() {
+        return jpaRepository.findStripedProductIds();
+    }
+
+    /**
+     * Slot reservation: a random unlocked slot first, then any slot even if locked,
+     * and finally, for quantities no single slot can cover, the whole product under
+     * lock, laid out again with the reduced total.
+     */
+    private OptionalInt reserveFromSlots(UUID id, int quantity, int slots) {
+        OptionalInt remaining = toOptionalInt(
+                jpaRepository.decrementStockSlot(id, quantity, ThreadLocalRandom.current().nextInt(slots)));
+        if (remaining.isPresent()) {
+            return remaining;
+        }
+        remaining = toOptionalInt(jpaRepository.decrementStockSlotWaiting(id, quantity));
+        if (remaining.isPresent()) {
+            return remaining;
+        }
+
+        Optional<Integer> total = jpaRepository.lockStock(id);
+        if (total.isEmpty() || total.get() < quantity) {
+            return OptionalInt.empty();
+        }
+        layOutStock(id, slots, total.get() - quantity);
+        return OptionalInt.of(total.get() - quantity);
+    }
+
+    // Caller must hold the locks taken by lockStock
+    private void layOutStock(UUID id, int slots, int total) {
+        jpaRepository.deleteStockSlots(id);
+        if (slots > 0) {
+            jpaRepository.insertStockSlots(id, slots, total);
+            jpaRepository.updateStockLayout(id, 0, slots);
+        } else {
+            jpaRepository.updateStockLayout(id, total, 0);
+        }
+    }
+
+    private static boolean isSkewed(List<Integer> quantities) {
+        int total = quantities.stream().mapToInt(Integer::intValue).sum();
+        int min = quantities.stream().mapToInt(Integer::intValue).min().orElse(0);
+        int max = quantities.stream().mapToInt(Integer::intValue).max().orElse(0);
+        return max - min > Math.max(1, total / quantities.size() / 2);
+    }
+
+    private static OptionalInt toOptionalInt(List<Integer> remaining) {
+        return remaining.isEmpty() ? OptionalInt.empty() : OptionalInt.of(remaining.get(0));
+    }
+}
@@ -0,0 +1,55 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.product.domain.repository.StockHoldRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Repository
+public class StockHoldRepositoryImpl implements StockHoldRepository {
+
+    private final ProductJpaRepository jpaRepository;
+
+    public StockHoldRepositoryImpl(ProductJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional
+    public void save(UUID holdId, Map<UUID, Integer> quantities, Instant expiresAt) {
+        UUID[] productIds = quantities.keySet().toArray(UUID[]::new);
+        int[] amounts = new int[productIds.length];
+        for (int i = 0; i < productIds.length; i++) {
+            amounts[i] = quantities.get(productIds[i]);
+        }
+        jpaRepository.insertStockHold(holdId, productIds, amounts, expiresAt);
+    }
+
+    @Override
+    public Map<UUID, Integer> deleteActive(UUID holdId, Instant now) {
+        return sumByProduct(jpaRepository.deleteActiveStockHold(holdId, now));
+    }
+
+    @Override
+    public Map<UUID, Integer> delete(UUID holdId) {
+        return sumByProduct(jpaRepository.deleteStockHold(holdId));
+    }
+
+    @Override
+    public Map<UUID, Integer> deleteExpired(Instant now, int limit) {
+        return sumByProduct(jpaRepository.deleteExpiredStockHolds(now, limit));
+    }
+
+    private static Map<UUID, Integer> sumByProduct(List<Object[]> rows) {
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            quantities.merge((UUID) row[0], ((Number) row[1]).intValue(), Integer::sum);
+        }
+        return quantities;
+    }
+}
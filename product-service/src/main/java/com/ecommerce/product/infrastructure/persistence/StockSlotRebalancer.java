@@ -0,0 +1,34 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.product.domain.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Periodically evens out the stock slots of hot products, so random slot picks keep
+ * finding stock and the product row stays free of reservation traffic.
+ */
+@Slf4j
+@Component
+public class StockSlotRebalancer {
+
+    private final ProductRepository productRepository;
+
+    public StockSlotRebalancer(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${product.inventory.rebalance-interval:PT5S}")
+    public void rebalance() {
+        for (UUID productId : productRepository.findStripedProductIds()) {
+            try {
+                productRepository.rebalanceStock(productId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to rebalance stock slots of product {}: {}", productId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package com.ecommerce.product.infrastructure.search;
+
+import com.ecommerce.product.application.dto.ProductFacetCounts;
+import com.ecommerce.product.application.dto.ProductFacetFilter;
+import com.ecommerce.product.domain.entity.Product;
+import com.ecommerce.product.domain.repository.ProductRepository;
+import com.ecommerce.product.domain.valueobject.ProductStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory facet index over the whole catalog: one compressed bitmap of product
+ * ordinals per category, status, price band and stock availability. Filtering is
+ * a few bitmap ORs and ANDs, and each facet count one AND cardinality, instead of
+ * a multi-predicate query plus a count query per facet.
+ * <p>
+ * Product changes are applied as they commit; stock levels also on every stock
+ * change made through this instance. The index is rebuilt from the database
+ * periodically, which picks up changes made by other instances or by batched
+ * stock deltas. Changes made while a rebuild reads the table are replayed onto
+ * the new index before it is swapped in.
+ */
+@Slf4j
+@Component
+public class ProductFacetIndex {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final List<BigDecimal> priceBounds;
+    private final List<String> priceBands;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Facets facets;
+    private List<Consumer<Facets>> changedDuringRebuild;
+
+    public ProductFacetIndex(ProductRepository productRepository,
+                             @Value("${product.facets.price-bounds:10,25,50,100,250,500,1000}") List<BigDecimal> priceBounds) {
+        this.productRepository = productRepository;
+        this.priceBounds = priceBounds.stream().sorted().toList();
+        this.priceBands = bandLabels(this.priceBounds);
+        this.facets = new Facets(priceBands.size());
+    }
+
+    /**
+     * Price band labels in ascending order, e.g. {@code 0-10}, {@code 10-25}, {@code 1000+}.
+     */
+    public List<String> priceBands() {
+        return priceBands;
+    }
+
+    public void upsert(Product product) {
+        Entry entry = new Entry(product.getCategoryId(), product.getStatus(), priceBand(product.getPrice().amount()));
+        boolean inStock = product.getStockQuantity() > 0;
+        apply(facets -> facets.put(product.getId(), entry, inStock));
+    }
+
+    public void delete(UUID productId) {
+        apply(facets -> facets.remove(productId));
+    }
+
+    /**
+     * Records a product's new stock level once the surrounding transaction commits.
+     */
+    public void stockChanged(UUID productId, int stock) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(facets -> facets.setInStock(productId, stock > 0));
+                }
+            });
+        } else {
+            apply(facets -> facets.setInStock(productId, stock > 0));
+        }
+    }
+
+    /**
+     * Products matching {@code filter} in index order, skipping {@code offset}, with
+     * the total and facet counts.
+     */
+    public Selection select(ProductFacetFilter filter, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap categories = facets.union(filter.categoryIds().stream()
+                    .map(id -> facets.categories.get(id)).toList());
+            RoaringBitmap statuses = facets.union(filter.statuses().stream()
+                    .map(status -> facets.statuses.get(status)).toList());
+            RoaringBitmap prices = facets.union(filter.priceBands().stream()
+                    .map(band -> facets.priceBands[priceBandIndex(band)]).toList());
+            RoaringBitmap stock = filter.inStock() == null ? facets.live
+                    : filter.inStock() ? facets.inStock : RoaringBitmap.andNot(facets.live, facets.inStock);
+
+            RoaringBitmap matches = RoaringBitmap.and(RoaringBitmap.and(categories, statuses),
+                    RoaringBitmap.and(prices, stock));
+
+            RoaringBitmap exceptCategory = RoaringBitmap.and(statuses, RoaringBitmap.and(prices, stock));
+            Map<UUID, Integer> categoryCounts = facets.countCategories(exceptCategory);
+
+            RoaringBitmap exceptStatus = RoaringBitmap.and(categories, RoaringBitmap.and(prices, stock));
+            Map<ProductStatus, Integer> statusCounts = new EnumMap<>(ProductStatus.class);
+            facets.statuses.forEach((status, bitmap) ->
+                    statusCounts.put(status, RoaringBitmap.andCardinality(bitmap, exceptStatus)));
+
+            RoaringBitmap exceptPrice = RoaringBitmap.and(categories, RoaringBitmap.and(statuses, stock));
+            Map<String, Integer> priceCounts = new LinkedHashMap<>();
+            for (int band = 0; band < priceBands.size(); band++) {
+                priceCounts.put(priceBands.get(band), RoaringBitmap.andCardinality(facets.priceBands[band], exceptPrice));
+            }
+
+            RoaringBitmap exceptStock = RoaringBitmap.and(categories, RoaringBitmap.and(statuses, prices));
+            int inStock = RoaringBitmap.andCardinality(facets.inStock, exceptStock);
+            int outOfStock = exceptStock.getCardinality() - inStock;
+
+            return new Selection(facets.page(matches, offset, limit), matches.getCardinality(),
+                    new ProductFacetCounts(categoryCounts, statusCounts, priceCounts, inStock, outOfStock));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${product.facets.rebuild-interval:PT1M}",
+            initialDelayString = "${product.facets.rebuild-interval:PT1M}")
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Facets next = new Facets(priceBands.size());
+        try {
+            UUID after = new UUID(0, 0);
+            List<Product> page;
+            do {
+                page = productRepository.findPageAfter(after, BUILD_BATCH_SIZE);
+                for (Product product : page) {
+                    next.put(product.getId(),
+                            new Entry(product.getCategoryId(), product.getStatus(), priceBand(product.getPrice().amount())),
+                            product.getStockQuantity() > 0);
+                }
+                if (!page.isEmpty()) {
+                    after = page.getLast().getId();
+                }
+            } while (page.size() == BUILD_BATCH_SIZE);
+            next.optimize();
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild product facet index; keeping the previous one", e);
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild.forEach(change -> change.accept(next));
+            changedDuringRebuild = null;
+            facets = next;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Rebuilt product facet index: {} products, {} KiB in {} ms", next.live.getCardinality(),
+                next.sizeInBytes() / 1024, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void apply(Consumer<Facets> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(facets);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int priceBand(BigDecimal price) {
+        int band = 0;
+        while (band < priceBounds.size() && price.compareTo(priceBounds.get(band)) >= 0) {
+            band++;
+        }
+        return band;
+    }
+
+    private int priceBandIndex(String label) {
+        int band = priceBands.indexOf(label);
+        if (band < 0) {
+            throw new IllegalArgumentException("Unknown price band " + label + "; expected one of " + priceBands);
+        }
+        return band;
+    }
+
+    private static List<String> bandLabels(List<BigDecimal> bounds) {
+        List<String> labels = new ArrayList<>();
+        BigDecimal lower = BigDecimal.ZERO;
+        for (BigDecimal upper : bounds) {
+            labels.add(lower.toPlainString() + "-" + upper.toPlainString());
+            lower = upper;
+        }
+        labels.add(lower.toPlainString() + "+");
+        return List.copyOf(labels);
+    }
+
+    public record Selection(List<UUID> productIds, int total, ProductFacetCounts counts) {}
+
+    private record Entry(UUID categoryId, ProductStatus status, int priceBand) {}
+
+    /**
+     * Bitmaps over product ordinals. Ordinals are assigned on first sight and not
+     * reused; deleted products only leave the bitmaps, until the next rebuild.
+     */
+    private static final class Facets {
+
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        private final List<UUID> productIds = new ArrayList<>();
+        private final List<Entry> entries = new ArrayList<>();
+        private final RoaringBitmap live = new RoaringBitmap();
+        private final Map<UUID, RoaringBitmap> categories = new HashMap<>();
+        private final Map<UUID, Integer> categoryIndexes = new HashMap<>();
+        private final List<UUID> categoryIds = new ArrayList<>();
+        private int[] categoryOf = new int[1024];
+        private final Map<ProductStatus, RoaringBitmap> statuses = new EnumMap<>(ProductStatus.class);
+        private final RoaringBitmap[] priceBands;
+        private final RoaringBitmap inStock = new RoaringBitmap();
+
+        Facets(int priceBandCount) {
+            for (ProductStatus status : ProductStatus.values()) {
+                statuses.put(status, new RoaringBitmap());
+            }
+            priceBands = new RoaringBitmap[priceBandCount];
+            for (int band = 0; band < priceBandCount; band++) {
+                priceBands[band] = new RoaringBitmap();
+            }
+        }
+
+        void put(UUID productId, Entry entry, boolean available) {
+            int ordinal = ordinals.computeIfAbsent(productId, id -> {
+                productIds.add(id);
+                entries.add(null);
+                return productIds.size() - 1;
+            });
+            clear(ordinal);
+            entries.set(ordinal, entry);
+            live.add(ordinal);
+            if (ordinal >= categoryOf.length) {
+                categoryOf = Arrays.copyOf(categoryOf, Math.max(categoryOf.length * 2, ordinal + 1));
+            }
+            categoryOf[ordinal] = -1;
+            if (entry.categoryId() != null) {
+                categories.computeIfAbsent(entry.categoryId(), id -> new RoaringBitmap()).add(ordinal);
+                categoryOf[ordinal] = categoryIndexes.computeIfAbsent(entry.categoryId(), id -> {
+                    categoryIds.add(id);
+                    return categoryIds.size() - 1;
+                });
+            }
+            statuses.get(entry.status()).add(ordinal);
+            priceBands[entry.priceBand()].add(ordinal);
+            if (available) {
+                inStock.add(ordinal);
+            }
+        }
+
+        void remove(UUID productId) {
+            Integer ordinal = ordinals.get(productId);
+            if (ordinal != null) {
+                clear(ordinal);
+            }
+        }
+
+        void setInStock(UUID productId, boolean available) {
+            Integer ordinal = ordinals.get(productId);
+            if (ordinal == null || !live.contains(ordinal)) {
+                return;
+            }
+            if (available) {
+                inStock.add(ordinal);
+            } else {
+                inStock.remove(ordinal);
+            }
+        }
+
+        /**
+         * ORs the selected values' bitmaps; no selection matches every live product.
+         */
+        RoaringBitmap union(List<RoaringBitmap> selected) {
+            if (selected.isEmpty()) {
+                return live;
+            }
+            RoaringBitmap union = new RoaringBitmap();
+            for (RoaringBitmap bitmap : selected) {
+                if (bitmap != null) {
+                    union.or(bitmap);
+                }
+            }
+            return union;
+        }
+
+        /**
+         * Intersecting every category bitmap costs the most when {@code within} is
+         * sparse, as each intersection then merges two sorted arrays; tallying the
+         * category of each member is cheaper below about one in sixteen products.
+         */
+        Map<UUID, Integer> countCategories(RoaringBitmap within) {
+            Map<UUID, Integer> counts = new HashMap<>();
+            if ((long) within.getCardinality() * 16 < productIds.size()) {
+                int[] perCategory = new int[categoryIds.size()];
+                within.forEach((int ordinal) -> {
+                    if (categoryOf[ordinal] >= 0) {
+                        perCategory[categoryOf[ordinal]]++;
+                    }
+                });
+                for (int category = 0; category < perCategory.length; category++) {
+                    if (perCategory[category] > 0) {
+                        counts.put(categoryIds.get(category), perCategory[category]);
+                    }
+                }
+            } else {
+                categories.forEach((id, bitmap) -> {
+                    int count = RoaringBitmap.andCardinality(bitmap, within);
+                    if (count > 0) {
+                        counts.put(id, count);
+                    }
+                });
+            }
+            return counts;
+        }
+
+        List<UUID> page(RoaringBitmap matches, int offset, int limit) {
+            List<UUID> page = new ArrayList<>(Math.min(limit, Math.max(0, matches.getCardinality() - offset)));
+            if (offset >= matches.getCardinality()) {
+                return page;
+            }
+            PeekableIntIterator ordinals = matches.getIntIterator();
+            ordinals.advanceIfNeeded(matches.select(offset));
+            while (ordinals.hasNext() && page.size() < limit) {
+                page.add(productIds.get(ordinals.next()));
+            }
+            return page;
+        }
+
+        void optimize() {
+            live.runOptimize();
+            categories.values().forEach(RoaringBitmap::runOptimize);
+            statuses.values().forEach(RoaringBitmap::runOptimize);
+            for (RoaringBitmap band : priceBands) {
+                band.runOptimize();
+            }
+            inStock.runOptimize();
+        }
+
+        long sizeInBytes() {
+            long size = live.getLongSizeInBytes() + inStock.getLongSizeInBytes();
+            for (RoaringBitmap bitmap : categories.values()) {
+                size += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : statuses.values()) {
+                size += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : priceBands) {
+                size += bitmap.getLongSizeInBytes();
+            }
+            return size;
+        }
+
+        private void clear(int ordinal) {
+            Entry previous = entries.get(ordinal);
+            if (previous == null) {
+                return;
+            }
+            entries.set(ordinal, null);
+            live.remove(ordinal);
+            if (previous.categoryId() != null) {
+                RoaringBitmap category = categories.get(previous.categoryId());
+                category.remove(ordinal);
+                if (category.isEmpty()) {
+                    categories.remove(previous.categoryId());
+                }
+            }
+            statuses.get(previous.status()).remove(ordinal);
+            priceBands[previous.priceBand()].remove(ordinal);
+            inStock.remove(ordinal);
+        }
+    }
+}
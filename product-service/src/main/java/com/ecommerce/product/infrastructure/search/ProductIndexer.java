@@ -0,0 +1,194 @@
+package com.ecommerce.product.infrastructure.search;
+
+import com.ecommerce.product.domain.entity.Product;
+import com.ecommerce.product.domain.event.ProductCreatedEvent;
+import com.ecommerce.product.domain.event.ProductDeletedEvent;
+import com.ecommerce.product.domain.event.ProductUpdatedEvent;
+import com.ecommerce.product.domain.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the local {@link ProductSearchIndex} and {@link ProductFacetIndex} in step
+ * with the products table.
+ * <p>
+ * Product changes are indexed after commit and broadcast as
+ * {@code instanceId|op|productId} so every instance updates its own copy; an
+ * instance ignores its own messages. Documents are always rebuilt from the current
+ * row, so replays and reordering are harmless. On startup an empty index is rebuilt
+ * in full and an existing one catches up on rows updated since its last commit.
+ * Deletions missed while down linger until the next rebuild, but search results
+ * are resolved against the database, which drops them.
+ */
+@Slf4j
+public class ProductIndexer implements MessageListener {
+
+    public static final String CHANNEL = "product-search-index";
+
+    private static final String SEPARATOR = "|";
+    private static final String UPSERT = "U";
+    private static final String DELETE = "D";
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(1);
+
+    private final ProductSearchIndex index;
+    private final ProductFacetIndex facetIndex;
+    private final ProductRepository productRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final int rebuildBatchSize;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public ProductIndexer(ProductSearchIndex index,
+                          ProductFacetIndex facetIndex,
+                          ProductRepository productRepository,
+                          StringRedisTemplate redisTemplate,
+                          int rebuildBatchSize) {
+        this.index = index;
+        this.facetIndex = facetIndex;
+        this.productRepository = productRepository;
+        this.redisTemplate = redisTemplate;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductCreated(ProductCreatedEvent event) {
+        reindex(event.getProductId());
+        publish(UPSERT, event.getProductId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductUpdated(ProductUpdatedEvent event) {
+        reindex(event.getProductId());
+        publish(UPSERT, event.getProductId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductDeleted(ProductDeletedEvent event) {
+        remove(event.getProductId());
+        publish(DELETE, event.getProductId());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        try {
+            UUID productId = UUID.fromString(parts[2]);
+            if (DELETE.equals(parts[1])) {
+                remove(productId);
+            } else {
+                reindex(productId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Ignoring search index update {}: {}", parts[2], e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        Instant lastCommit = index.lastCommit().orElse(null);
+        if (index.size() == 0 || lastCommit == null) {
+            startRebuild();
+            return;
+        }
+        List<UUID> changed = productRepository.findIdsUpdatedSince(lastCommit.minus(CATCH_UP_MARGIN));
+        changed.forEach(this::reindex);
+        index.refresh();
+        log.info("Search index caught up on {} products changed since {}", changed.size(), lastCommit);
+    }
+
+    /**
+     * Rebuilds the index from the products table in the background.
+     *
+     * @return false if a rebuild is already running
+     */
+    public boolean startRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread.ofPlatform().name("product-search-rebuild").daemon().start(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Search index rebuild failed", e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Pages through every product by ID. Searches keep the previous contents until
+     * the rebuild completes; changes arriving meanwhile are applied on top and
+     * overwrite the rebuilt document where they overlap.
+     */
+    void rebuild() {
+        long started = System.nanoTime();
+        index.deleteAll();
+        int count = 0;
+        UUID after = new UUID(0, 0);
+        List<Product> page;
+        do {
+            page = productRepository.findPageAfter(after, rebuildBatchSize);
+            page.forEach(index::upsert);
+            count += page.size();
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == rebuildBatchSize);
+        index.commit();
+        index.forceRefresh();
+        log.info("Rebuilt search index with {} products in {} ms",
+                count, Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${product.search.refresh-interval:PT1S}")
+    public void refresh() {
+        if (!rebuilding.get()) {
+            index.refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.search.commit-interval:PT30S}")
+    public void commit() {
+        if (!rebuilding.get()) {
+            index.commit();
+        }
+    }
+
+    private void reindex(UUID productId) {
+        productRepository.findById(productId).ifPresentOrElse(product -> {
+            index.upsert(product);
+            facetIndex.upsert(product);
+        }, () -> remove(productId));
+    }
+
+    private void remove(UUID productId) {
+        index.delete(productId);
+        facetIndex.delete(productId);
+    }
+
+    private void publish(String op, UUID productId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, instanceId + SEPARATOR + op + SEPARATOR + productId);
+        } catch (Exception e) {
+            log.warn("Failed to broadcast search index update for {}: {}", productId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.ecommerce.product.infrastructure.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Units reserved per product, shared by all instances in a Redis sorted set.
+ * Used to rank suggestions; counts are best-effort and never block a reservation.
+ */
+@Slf4j
+@Component
+public class ProductPopularity {
+
+    static final String KEY = "product:popularity";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public ProductPopularity(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Counts reserved units once the surrounding transaction commits.
+     */
+    public void record(Map<UUID, Integer> quantities) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(quantities);
+                }
+            });
+        } else {
+            increment(quantities);
+        }
+    }
+
+    /**
+     * The {@code limit} most reserved products with their unit counts.
+     */
+    public Map<UUID, Long> top(int limit) {
+        Set<TypedTuple<String>> entries = redisTemplate.opsForZSet().reverseRangeWithScores(KEY, 0, limit - 1);
+        Map<UUID, Long> counts = new HashMap<>();
+        if (entries != null) {
+            for (TypedTuple<String> entry : entries) {
+                if (entry.getValue() != null && entry.getScore() != null) {
+                    counts.put(UUID.fromString(entry.getValue()), entry.getScore().longValue());
+                }
+            }
+        }
+        return counts;
+    }
+
+    private void increment(Map<UUID, Integer> quantities) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection strings = (StringRedisConnection) connection;
+                quantities.forEach((id, quantity) -> strings.zIncrBy(KEY, quantity, id.toString()));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to count reservations for {} products: {}", quantities.size(), e.getMessage());
+        }
+    }
+}
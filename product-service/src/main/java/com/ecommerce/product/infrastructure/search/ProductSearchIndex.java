@@ -0,0 +1,242 @@
+package com.ecommerce.product.infrastructure.search;
+
+import com.ecommerce.product.domain.entity.Product;
+import com.ecommerce.product.domain.valueobject.ProductStatus;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Embedded Lucene index of the catalog, memory-mapped from local disk, for
+ * typo-tolerant storefront search without a separate search cluster.
+ * <p>
+ * Writes become visible to searches on the next {@link #refresh()} (near-real-time)
+ * and durable on the next {@link #commit()}. Searches borrow a pooled
+ * {@link IndexSearcher} from a {@link SearcherManager}, so a refresh never blocks them.
+ */
+public class ProductSearchIndex implements Closeable {
+
+    static final String ID = "id";
+    static final String NAME = "name";
+    static final String SKU = "sku";
+    static final String DESCRIPTION = "description";
+    static final String CATEGORY = "category";
+    static final String STATUS = "status";
+
+    private static final String COMMITTED_AT = "committedAt";
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public ProductSearchIndex(Path path) {
+        try {
+            this.directory = new MMapDirectory(Files.createDirectories(path));
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open product search index in " + path, e);
+        }
+    }
+
+    public void upsert(Product product) {
+        try {
+            writer.updateDocument(new Term(ID, product.getId().toString()), toDocument(product));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot index product " + product.getId(), e);
+        }
+    }
+
+    public void delete(UUID productId) {
+        try {
+            writer.deleteDocuments(new Term(ID, productId.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot remove product " + productId + " from the index", e);
+        }
+    }
+
+    public void deleteAll() {
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot clear the product search index", e);
+        }
+    }
+
+    /**
+     * Makes recent writes visible to new searches.
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot refresh product search index", e);
+        }
+    }
+
+    /**
+     * Like {@link #refresh()}, but waits for a refresh already in progress.
+     */
+    public void forceRefresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot refresh product search index", e);
+        }
+    }
+
+    /**
+     * Makes recent writes durable, stamping the commit with its time so a restarted
+     * instance knows from when to catch up.
+     */
+    public void commit() {
+        if (!writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            writer.setLiveCommitData(Map.of(COMMITTED_AT, Instant.now().toString()).entrySet());
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot commit product search index", e);
+        }
+    }
+
+    public Optional<Instant> lastCommit() {
+        Iterable<Map.Entry<String, String>> data = writer.getLiveCommitData();
+        if (data != null) {
+            for (Map.Entry<String, String> entry : data) {
+                if (COMMITTED_AT.equals(entry.getKey())) {
+                    return Optional.of(Instant.parse(entry.getValue()));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    /**
+     * Active products matching every word of {@code text} in name or description,
+     * allowing typos, or matching it exactly as a SKU. Best matches first.
+     */
+    public List<UUID> search(String text, UUID categoryId, int offset, int limit) {
+        Query query = buildQuery(text, categoryId);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] hits = searcher.search(query, offset + limit).scoreDocs;
+                StoredFields storedFields = searcher.storedFields();
+                List<UUID> ids = new ArrayList<>(Math.max(0, hits.length - offset));
+                for (int i = offset; i < hits.length; i++) {
+                    ids.add(UUID.fromString(storedFields.document(hits[i].doc, Set.of(ID)).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Product search failed", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        commit();
+        writer.close();
+        directory.close();
+    }
+
+    private Query buildQuery(String text, UUID categoryId) {
+        BooleanQuery.Builder words = new BooleanQuery.Builder();
+        for (String word : analyze(text)) {
+            int maxEdits = word.length() < 3 ? 0 : word.length() < 6 ? 1 : 2;
+            words.add(new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(NAME, word)), 4f), Occur.SHOULD)
+                    .add(new BoostQuery(new FuzzyQuery(new Term(NAME, word), maxEdits, 1), 2f), Occur.SHOULD)
+                    .add(new PrefixQuery(new Term(NAME, word)), Occur.SHOULD)
+                    .add(new TermQuery(new Term(DESCRIPTION, word)), Occur.SHOULD)
+                    .add(new BoostQuery(new FuzzyQuery(new Term(DESCRIPTION, word), maxEdits, 1), 0.5f), Occur.SHOULD)
+                    .build(), Occur.MUST);
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(words.build(), Occur.SHOULD)
+                .add(new BoostQuery(new TermQuery(new Term(SKU, text.trim().toLowerCase(Locale.ROOT))), 10f), Occur.SHOULD)
+                .setMinimumNumberShouldMatch(1)
+                .add(new TermQuery(new Term(STATUS, ProductStatus.ACTIVE.name())), Occur.FILTER);
+        if (categoryId != null) {
+            query.add(new TermQuery(new Term(CATEGORY, categoryId.toString())), Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> words = new ArrayList<>();
+        try (TokenStream tokens = analyzer.tokenStream(NAME, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                words.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+
+    private static Document toDocument(Product product) {
+        Document document = new Document();
+        document.add(new StringField(ID, product.getId().toString(), Field.Store.YES));
+        document.add(new TextField(NAME, product.getName(), Field.Store.NO));
+        document.add(new StringField(SKU, product.getSku().toLowerCase(Locale.ROOT), Field.Store.NO));
+        if (product.getDescription() != null) {
+            document.add(new TextField(DESCRIPTION, product.getDescription(), Field.Store.NO));
+        }
+        if (product.getCategoryId() != null) {
+            document.add(new StringField(CATEGORY, product.getCategoryId().toString(), Field.Store.NO));
+        }
+        document.add(new StringField(STATUS, product.getStatus().name(), Field.Store.NO));
+        return document;
+    }
+}
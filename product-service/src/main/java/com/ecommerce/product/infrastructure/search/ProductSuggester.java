@@ -0,0 +1,165 @@
+package com.ecommerce.product.infrastructure.search;
+
+import com.ecommerce.product.domain.entity.Product;
+import com.ecommerce.product.domain.repository.ProductRepository;
+import com.ecommerce.product.domain.valueobject.ProductStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.search.suggest.InputIterator;
+import org.apache.lucene.search.suggest.Lookup;
+import org.apache.lucene.search.suggest.analyzing.AnalyzingSuggester;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Completes search-box prefixes from product names and SKUs without touching the
+ * database. Completions live in an immutable FST, ranked by units reserved, that
+ * is rebuilt periodically and swapped in with a single write, so lookups never
+ * lock. Matching ignores case and punctuation, and a prefix may span words
+ * ("wireless head"). At most {@code product.suggest.max-entries} completions are
+ * kept, the most popular first; products created since the last build appear
+ * after the next one.
+ */
+@Slf4j
+@Component
+public class ProductSuggester {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final ProductPopularity popularity;
+    private final int maxEntries;
+    private volatile Lookup suggester;
+
+    public ProductSuggester(ProductRepository productRepository,
+                            ProductPopularity popularity,
+                            @Value("${product.suggest.max-entries:200000}") int maxEntries) {
+        this.productRepository = productRepository;
+        this.popularity = popularity;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Up to {@code limit} completions of {@code prefix}, most popular first;
+     * empty until the first build completes.
+     */
+    public List<String> suggest(String prefix, int limit) {
+        Lookup current = suggester;
+        if (current == null) {
+            return List.of();
+        }
+        try {
+            return current.lookup(prefix, false, limit).stream()
+                    .map(result -> result.key.toString())
+                    .toList();
+        } catch (IOException e) {
+            throw new IllegalStateException("Suggestion lookup failed", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${product.suggest.rebuild-interval:PT5M}",
+            initialDelayString = "${product.suggest.rebuild-interval:PT5M}")
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        AnalyzingSuggester next = new AnalyzingSuggester(new ByteBuffersDirectory(), "suggest", new StandardAnalyzer());
+        List<Map.Entry<String, Long>> entries;
+        try {
+            entries = loadEntries();
+            next.build(new EntryIterator(entries.iterator()));
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to rebuild product suggester; keeping the previous one", e);
+            return;
+        }
+        suggester = next;
+        log.info("Rebuilt product suggester: {} completions, {} KiB in {} ms",
+                entries.size(), next.ramBytesUsed() / 1024, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private List<Map.Entry<String, Long>> loadEntries() {
+        Map<UUID, Long> unitsReserved = popularity.top(maxEntries);
+        Map<String, Long> weights = new HashMap<>();
+        UUID after = new UUID(0, 0);
+        List<Product> page;
+        do {
+            page = productRepository.findPageAfter(after, BUILD_BATCH_SIZE);
+            for (Product product : page) {
+                if (product.getStatus() == ProductStatus.ACTIVE) {
+                    long weight = Math.min(unitsReserved.getOrDefault(product.getId(), 0L), Integer.MAX_VALUE);
+                    weights.merge(product.getName(), weight, Math::max);
+                    weights.merge(product.getSku(), weight, Math::max);
+                }
+            }
+            if (!page.isEmpty()) {
+                after = page.getLast().getId();
+            }
+        } while (page.size() == BUILD_BATCH_SIZE);
+
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(weights.entrySet());
+        if (entries.size() > maxEntries) {
+            entries.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+            entries = entries.subList(0, maxEntries);
+        }
+        return entries;
+    }
+
+    private static final class EntryIterator implements InputIterator {
+
+        private final Iterator<Map.Entry<String, Long>> entries;
+        private long weight;
+
+        EntryIterator(Iterator<Map.Entry<String, Long>> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public BytesRef next() {
+            if (!entries.hasNext()) {
+                return null;
+            }
+            Map.Entry<String, Long> entry = entries.next();
+            weight = entry.getValue();
+            return new BytesRef(entry.getKey());
+        }
+
+        @Override
+        public long weight() {
+            return weight;
+        }
+
+        @Override
+        public BytesRef payload() {
+            return null;
+        }
+
+        @Override
+        public boolean hasPayloads() {
+            return false;
+        }
+
+        @Override
+        public Set<BytesRef> contexts() {
+            return null;
+        }
+
+        @Override
+        public boolean hasContexts() {
+            return false;
+        }
+    }
+}
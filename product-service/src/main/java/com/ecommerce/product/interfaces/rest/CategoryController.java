@@ -0,0 +1,54 @@
+package com.ecommerce.product.interfaces.rest;
+
+import com.ecommerce.product.application.dto.CategoryNodeDto;
+import com.ecommerce.product.application.dto.CreateCategoryRequest;
+import com.ecommerce.product.application.service.CategoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/categories")
+@Tag(name = "Categories", description = "Category hierarchy endpoints")
+public class CategoryController {
+
+    private final CategoryService categoryService;
+
+    public CategoryController(CategoryService categoryService) {
+        this.categoryService = categoryService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Create a category, optionally under a parent")
+    public ResponseEntity<CategoryNodeDto> createCategory(@Valid @RequestBody CreateCategoryRequest request) {
+        CategoryNodeDto category = categoryService.createCategory(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(category);
+    }
+
+    @GetMapping("/tree")
+    @Operation(summary = "Get the whole category hierarchy with product counts")
+    public ResponseEntity<List<CategoryNodeDto>> getCategoryTree() {
+        List<CategoryNodeDto> tree = categoryService.getCategoryTree();
+        return ResponseEntity.ok(tree);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get a category with its subtree")
+    public ResponseEntity<CategoryNodeDto> getCategory(@PathVariable UUID id) {
+        CategoryNodeDto category = categoryService.getCategorySubtree(id);
+        return ResponseEntity.ok(category);
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete an empty category")
+    public ResponseEntity<Void> deleteCategory(@PathVariable UUID id) {
+        categoryService.deleteCategory(id);
+        return ResponseEntity.noContent().build();
+    }
+}
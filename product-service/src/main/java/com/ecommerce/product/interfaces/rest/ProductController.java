@@ -2,15 +2,19 @@ package com.ecommerce.product.interfaces.rest;
 
 import com.ecommerce.product.application.dto.*;
 import com.ecommerce.product.application.service.ProductService;
+import com.ecommerce.product.domain.valueobject.ProductStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -19,9 +23,11 @@ import java.util.UUID;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductHttpCaching httpCaching;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ProductHttpCaching httpCaching) {
         this.productService = productService;
+        this.httpCaching = httpCaching;
     }
 
     @PostMapping
@@ -33,25 +39,122 @@ public class ProductController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Get product by ID")
-    public ResponseEntity<ProductDto> getProduct(@PathVariable UUID id) {
+    public ResponseEntity<ProductDto> getProduct(@PathVariable UUID id, @RequestHeader HttpHeaders headers) {
+        // Revalidations are answered from the cached product, like any other read
         ProductDto product = productService.getProduct(id);
+        String eTag = httpCaching.productETag(product.updatedAt(), product.stockQuantity());
+        if (httpCaching.isNotModified(headers, eTag)) {
+            return httpCaching.product(HttpStatus.NOT_MODIFIED, id, eTag).build();
+        }
+        return httpCaching.product(HttpStatus.OK, id, eTag).body(product);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search products by name, SKU and description, best matches first")
+    public ResponseEntity<ProductSearchPage> searchProducts(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        ProductSearchPage page = productService.searchProducts(q, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/search/fuzzy")
+    @Operation(summary = "Search active products tolerating typos, from the in-process index")
+    public ResponseEntity<List<ProductDto>> searchProductsFuzzy(
+            @RequestParam String q,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<ProductDto> products = productService.searchProductsFuzzy(q, categoryId, page, size);
+        return ResponseEntity.ok(products);
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "Filter products by category, status, price band and availability, with facet counts")
+    public ResponseEntity<ProductFacetPage> getProductsByFacets(
+            @RequestParam(required = false) List<UUID> categoryId,
+            @RequestParam(required = false) List<ProductStatus> status,
+            @RequestParam(required = false) List<String> priceBand,
+            @RequestParam(required = false) Boolean inStock,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        ProductFacetFilter filter = new ProductFacetFilter(categoryId, status, priceBand, inStock);
+        ProductFacetPage products = productService.getProductsByFacets(filter, page, size);
+        return httpCaching.listing(null, products.items()).body(products);
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Complete a search box prefix from product names and SKUs, most popular first")
+    public ResponseEntity<List<String>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<String> suggestions = productService.suggest(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    @PostMapping("/search/index/rebuild")
+    @Operation(summary = "Rebuild this instance's search index from the database")
+    public ResponseEntity<Void> rebuildSearchIndex() {
+        productService.rebuildSearchIndex();
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/batch")
+    @Operation(summary = "Get several products by ID, in request order")
+    public ResponseEntity<List<ProductDto>> getProducts(@RequestParam List<UUID> ids) {
+        List<ProductDto> products = productService.getProducts(ids);
+        return ResponseEntity.ok(products);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Get several products by ID, for lists too long for a query string")
+    public ResponseEntity<List<ProductDto>> getProducts(@Valid @RequestBody ProductBatchRequest request) {
+        List<ProductDto> products = productService.getProducts(request.ids());
+        return ResponseEntity.ok(products);
+    }
+
+    @GetMapping("/sku/{sku}")
+    @Operation(summary = "Get product by SKU")
+    public ResponseEntity<ProductDto> getProductBySku(@PathVariable String sku) {
+        ProductDto product = productService.getProductBySku(sku);
         return ResponseEntity.ok(product);
     }
 
     @GetMapping
     @Operation(summary = "Get all products with pagination")
-    public ResponseEntity<Page<ProductDto>> getAllProducts(Pageable pageable) {
-        Page<ProductDto> products = productService.getAllProducts(pageable);
-        return ResponseEntity.ok(products);
+    public ResponseEntity<Page<ProductSummaryDto>> getAllProducts(Pageable pageable) {
+        Page<ProductSummaryDto> products = productService.getAllProducts(pageable);
+        return httpCaching.listing(null, products.getContent()).body(products);
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "List products newest or by price, paginated by cursor")
+    public ResponseEntity<ProductCursorPage> scrollProducts(
+            @RequestParam(defaultValue = "NEWEST") String sort,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        ProductCursorPage products = productService.scrollProducts(sort, categoryId, cursor, size);
+        return httpCaching.listing(categoryId, products.items()).body(products);
     }
 
     @GetMapping("/category/{categoryId}")
     @Operation(summary = "Get products by category")
-    public ResponseEntity<Page<ProductDto>> getProductsByCategory(
+    public ResponseEntity<Page<ProductSummaryDto>> getProductsByCategory(
             @PathVariable UUID categoryId,
             Pageable pageable) {
-        Page<ProductDto> products = productService.getProductsByCategory(categoryId, pageable);
-        return ResponseEntity.ok(products);
+        Page<ProductSummaryDto> products = productService.getProductsByCategory(categoryId, pageable);
+        return httpCaching.listing(categoryId, products.getContent()).body(products);
+    }
+
+    @GetMapping("/category/{categoryId}/subtree")
+    @Operation(summary = "Get products in a category and all its subcategories, by name")
+    public ResponseEntity<Page<ProductSummaryDto>> getProductsInCategoryTree(
+            @PathVariable UUID categoryId,
+            Pageable pageable) {
+        Page<ProductSummaryDto> products = productService.getProductsInCategoryTree(categoryId, pageable);
+        return httpCaching.listing(categoryId, products.getContent()).body(products);
     }
 
     @PutMapping("/{id}")
@@ -72,6 +175,84 @@ public class ProductController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/stock-deltas")
+    @Operation(summary = "Ingest warehouse stock deltas, applied per product in coalesced batches")
+    public ResponseEntity<Void> ingestStockDeltas(@Valid @RequestBody StockDeltaRequest request) {
+        productService.ingestStockDeltas(request);
+        return ResponseEntity.accepted().build();
+    }
+
+    @PutMapping("/{id}/stock-slots")
+    @Operation(summary = "Split product stock across slots for hot-SKU reservations (0 to disable)")
+    public ResponseEntity<Void> configureStockSlots(
+            @PathVariable UUID id,
+            @RequestParam int slots) {
+        productService.configureStockSlots(id, slots);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/{id}/hot-inventory")
+    @Operation(summary = "Manage product stock in Redis for high reservation rates")
+    public ResponseEntity<Void> enableHotInventory(@PathVariable UUID id) {
+        productService.enableHotInventory(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{id}/hot-inventory")
+    @Operation(summary = "Return product stock management to the database")
+    public ResponseEntity<Void> disableHotInventory(@PathVariable UUID id) {
+        productService.disableHotInventory(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/reserve")
+    @Operation(summary = "Reserve product stock")
+    public ResponseEntity<StockReservationResult> reserveStock(
+            @PathVariable UUID id,
+            @RequestParam int quantity) {
+        StockReservationResult result = productService.reserveStock(id, quantity);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/{id}/release")
+    @Operation(summary = "Release reserved product stock")
+    public ResponseEntity<StockReservationResult> releaseStock(
+            @PathVariable UUID id,
+            @RequestParam int quantity) {
+        StockReservationResult result = productService.releaseStock(id, quantity);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/reservations")
+    @Operation(summary = "Reserve stock for several products atomically")
+    public ResponseEntity<List<StockReservationResult>> reserveStock(@Valid @RequestBody ReserveStockRequest request) {
+        List<StockReservationResult> results = productService.reserveStock(request);
+        return ResponseEntity.ok(results);
+    }
+
+    @PostMapping("/holds")
+    @Operation(summary = "Hold stock for several products until checkout completes or the TTL elapses")
+    public ResponseEntity<StockHoldResult> holdStock(
+            @Valid @RequestBody ReserveStockRequest request,
+            @RequestParam(required = false) Duration ttl) {
+        StockHoldResult result = productService.holdStock(request, ttl);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
+    @PostMapping("/holds/{holdId}/confirm")
+    @Operation(summary = "Keep held stock as sold")
+    public ResponseEntity<Void> confirmHold(@PathVariable UUID holdId) {
+        productService.confirmHold(holdId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    @Operation(summary = "Give held stock back")
+    public ResponseEntity<Void> releaseHold(@PathVariable UUID holdId) {
+        productService.releaseHold(holdId);
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete product")
     public ResponseEntity<Void> deleteProduct(@PathVariable UUID id) {
@@ -0,0 +1,86 @@
+package com.ecommerce.product.interfaces.rest;
+
+import com.ecommerce.product.application.dto.ProductSummaryDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cache headers for product reads. A product's strong ETag comes from its
+ * modification time and stock, so a revalidation can be answered from the cached
+ * product. There is no Last-Modified: slot and Redis stock changes do not move the
+ * modification time. Listing pages get their ETag from the response body (see
+ * {@code HttpCachingConfig}).
+ * Surrogate keys name every product and listing a response depends on, so an edge
+ * cache can purge exactly the responses a change affects.
+ */
+@Component
+public class ProductHttpCaching {
+
+    public static final String SURROGATE_KEY = "Surrogate-Key";
+
+    private static final String ALL_PRODUCTS_KEY = "products";
+
+    private final CacheControl cacheControl;
+
+    public ProductHttpCaching(@Value("${product.http.max-age:PT30S}") Duration maxAge) {
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    // Microseconds, the database's precision, so cached and freshly read products agree
+    public String productETag(Instant updatedAt, int stockQuantity) {
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt);
+        return "\"" + Long.toHexString(micros) + "-" + stockQuantity + "\"";
+    }
+
+    public boolean isNotModified(HttpHeaders request, String eTag) {
+        return request.getIfNoneMatch().stream()
+                .anyMatch(tag -> tag.equals("*") || stripWeakPrefix(tag).equals(eTag));
+    }
+
+    public ResponseEntity.BodyBuilder product(HttpStatus status, UUID id, String eTag) {
+        return ResponseEntity.status(status)
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .header(SURROGATE_KEY, productKey(id));
+    }
+
+    /**
+     * Headers for a listing page: purged with any listed product, with every
+     * listing, and with the page's category when it has one.
+     */
+    public ResponseEntity.BodyBuilder listing(UUID categoryId, Collection<ProductSummaryDto> items) {
+        List<String> keys = new ArrayList<>(items.size() + 2);
+        keys.add(ALL_PRODUCTS_KEY);
+        if (categoryId != null) {
+            keys.add(categoryKey(categoryId));
+        }
+        items.forEach(item -> keys.add(productKey(item.id())));
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .header(SURROGATE_KEY, String.join(" ", keys));
+    }
+
+    public static String productKey(UUID productId) {
+        return "product-" + productId;
+    }
+
+    public static String categoryKey(UUID categoryId) {
+        return "category-" + categoryId;
+    }
+
+    private static String stripWeakPrefix(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,82 @@
+package com.ecommerce.product.interfaces.rest;
+
+import com.ecommerce.product.application.dto.ProductCursorPage;
+import com.ecommerce.product.application.dto.ProductFacetPage;
+import com.ecommerce.product.application.dto.ProductSummaryDto;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Applies the {@code fields=} sparse fieldset to listing responses, e.g.
+ * {@code ?fields=name,price}. The product ID is always included. Without the
+ * parameter every summary field is written.
+ */
+@RestControllerAdvice(assignableTypes = ProductController.class)
+public class SparseFieldsetAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    private static final String FIELDS_PARAMETER = "fields";
+
+    private static final Set<String> SUMMARY_FIELDS = Arrays.stream(ProductSummaryDto.class.getRecordComponents())
+            .map(RecordComponent::getName)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+
+    private static final Set<String> LISTING_TYPES = Set.of(
+            ProductSummaryDto.class.getName(), ProductCursorPage.class.getName(), ProductFacetPage.class.getName());
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        if (!super.supports(returnType, converterType)) {
+            return false;
+        }
+        String type = returnType.getGenericParameterType().getTypeName();
+        return LISTING_TYPES.stream().anyMatch(type::contains);
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        Set<String> fields = requestedFields(request);
+        SimpleBeanPropertyFilter filter = fields.isEmpty()
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(fields);
+        bodyContainer.setFilters(new SimpleFilterProvider().addFilter(ProductSummaryDto.FIELDS_FILTER, filter));
+    }
+
+    private static Set<String> requestedFields(ServerHttpRequest request) {
+        String[] values = request instanceof ServletServerHttpRequest servletRequest
+                ? servletRequest.getServletRequest().getParameterValues(FIELDS_PARAMETER)
+                : null;
+        if (values == null) {
+            return Set.of();
+        }
+
+        Set<String> fields = Arrays.stream(values)
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!SUMMARY_FIELDS.containsAll(fields)) {
+            throw new IllegalArgumentException("Fields must be among " + SUMMARY_FIELDS);
+        }
+        if (!fields.isEmpty()) {
+            fields.add("id");
+        }
+        return fields;
+    }
+}
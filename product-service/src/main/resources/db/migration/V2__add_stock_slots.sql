@@ -0,0 +1,13 @@
+-- Hot-SKU mode: a product's stock split across independently locked slots.
+-- While stock_slots > 0, available stock is stock_quantity plus the sum of its slots;
+-- reservations take from slots and stock_quantity only holds stock awaiting rebalance.
+ALTER TABLE products ADD COLUMN stock_slots SMALLINT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS product_stock_slots (
+    product_id UUID NOT NULL REFERENCES products(id) ON DELETE CASCADE,
+    slot SMALLINT NOT NULL,
+    quantity INTEGER NOT NULL CHECK (quantity >= 0),
+    PRIMARY KEY (product_id, slot)
+);
+
+CREATE INDEX idx_products_striped ON products(id) WHERE stock_slots > 0;
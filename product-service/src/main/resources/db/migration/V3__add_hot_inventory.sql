@@ -0,0 +1,6 @@
+-- Redis-managed inventory for top-selling products. While hot_inventory is set,
+-- reservations are decided in Redis and stock_quantity is written behind from there;
+-- the row-lock reservation queries skip these products.
+ALTER TABLE products ADD COLUMN hot_inventory BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE INDEX idx_products_hot_inventory ON products(id) WHERE hot_inventory;
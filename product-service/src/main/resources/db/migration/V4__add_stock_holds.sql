@@ -0,0 +1,13 @@
+-- Reserved stock awaiting checkout. Stock is taken when a hold is placed; confirming
+-- the hold keeps the decrement, and releasing or expiring it gives the stock back.
+CREATE TABLE IF NOT EXISTS stock_holds (
+    hold_id UUID NOT NULL,
+    product_id UUID NOT NULL REFERENCES products(id) ON DELETE CASCADE,
+    quantity INTEGER NOT NULL CHECK (quantity > 0),
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (hold_id, product_id)
+);
+
+-- Expiry reads the oldest holds through this index, never the whole table
+CREATE INDEX idx_stock_holds_expires_at ON stock_holds(expires_at);
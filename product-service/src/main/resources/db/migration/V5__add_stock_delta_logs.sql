@@ -0,0 +1,7 @@
+-- Last segment applied from each instance's stock delta log. A segment replayed
+-- after a crash is recognised by its sequence and not applied twice.
+CREATE TABLE IF NOT EXISTS stock_delta_logs (
+    log_id UUID PRIMARY KEY,
+    applied_sequence BIGINT NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,9 @@
+-- Full-text search over name (A), SKU (B) and description (C). The column is
+-- generated, so every insert and update keeps it current without application code.
+ALTER TABLE products ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(sku, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_products_search ON products USING GIN (search_vector);
@@ -0,0 +1,10 @@
+-- Keyset pagination of product listings: each sort order is an index range scan
+-- starting at the previous page's last (key, id), whatever the depth.
+-- Backward scans serve the descending orders.
+CREATE INDEX idx_products_created_id ON products(created_at, id);
+CREATE INDEX idx_products_price_id ON products(price, id);
+CREATE INDEX idx_products_category_created_id ON products(category_id, created_at, id);
+CREATE INDEX idx_products_category_price_id ON products(category_id, price, id);
+
+-- Covered by the category-prefixed indexes above
+DROP INDEX idx_products_category;
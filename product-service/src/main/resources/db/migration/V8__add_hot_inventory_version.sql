@@ -0,0 +1,4 @@
+-- Redis version of the stock last written behind. A flush writes only a newer version,
+-- so a flusher that read Redis before another instance's flush cannot overwrite it.
+-- Reloading a product into Redis resumes counting from here.
+ALTER TABLE products ADD COLUMN hot_inventory_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,49 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int CATALOG_SIZE = 1_000_000;
+
+    @Test
+    void shouldHaveNoFalseNegativesAndBoundedFalsePositivesForCatalogSizedInput() {
+        // Given
+        Random random = new Random(7);
+        BloomFilter filter = BloomFilter.create(CATALOG_SIZE, 0.01);
+        List<UUID> products = new ArrayList<>(CATALOG_SIZE);
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            UUID id = new UUID(random.nextLong(), random.nextLong());
+            products.add(id);
+            filter.add(id);
+        }
+
+        // When
+        int falsePositives = 0;
+        int probes = 200_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(new UUID(random.nextLong(), random.nextLong()))) {
+                falsePositives++;
+            }
+        }
+
+        // Then: every product is found, about 1% of unknown IDs pass, in about 1.2 MB
+        assertThat(products).allMatch(filter::mightContain);
+        assertThat((double) falsePositives / probes).isLessThan(0.015);
+        assertThat(filter.sizeInBytes()).isLessThan(1_300_000);
+    }
+
+    @Test
+    void shouldRejectUnknownIdsWhenEmpty() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        assertThat(filter.mightContain(UUID.randomUUID())).isFalse();
+    }
+}
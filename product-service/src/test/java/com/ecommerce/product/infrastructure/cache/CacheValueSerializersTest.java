@@ -0,0 +1,70 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import com.ecommerce.product.application.dto.ProductDto;
+import com.ecommerce.product.application.dto.ProductIdPage;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheValueSerializersTest {
+
+    private static final ProductDto PRODUCT = new ProductDto(
+            UUID.randomUUID(), "Trail Running Shoe", "Lightweight shoe with a grippy outsole", "SHOE-TRAIL-042",
+            new BigDecimal("129.99"), "USD", 42, UUID.randomUUID(), "ACTIVE", true,
+            Instant.parse("2024-01-15T10:00:00Z"), Instant.parse("2024-02-01T08:30:00Z"));
+
+    @Test
+    void shouldRoundTripProductsInEveryFormat() {
+        for (String format : List.of(CacheValueSerializers.SMILE, CacheValueSerializers.JSON)) {
+            RedisSerializer<ProductDto> serializer = CacheValueSerializers.forType(format, ProductDto.class);
+
+            assertThat(serializer.deserialize(serializer.serialize(PRODUCT))).isEqualTo(PRODUCT);
+        }
+    }
+
+    @Test
+    void shouldRoundTripIdPages() {
+        ProductIdPage page = new ProductIdPage(List.of(UUID.randomUUID(), UUID.randomUUID()), 57);
+        RedisSerializer<ProductIdPage> serializer = CacheValueSerializers.forType(CacheValueSerializers.SMILE, ProductIdPage.class);
+
+        assertThat(serializer.deserialize(serializer.serialize(page))).isEqualTo(page);
+    }
+
+    @Test
+    void shouldWriteSmallerEntriesThanTypedJson() {
+        byte[] smile = CacheValueSerializers.forType(CacheValueSerializers.SMILE, ProductDto.class).serialize(PRODUCT);
+        byte[] json = CacheValueSerializers.forType(CacheValueSerializers.JSON, ProductDto.class).serialize(PRODUCT);
+        byte[] typedJson = typedJsonSerializer().serialize(PRODUCT);
+
+        assertThat(smile.length).isLessThan(json.length);
+        assertThat(json.length).isLessThan(typedJson.length);
+    }
+
+    @Test
+    void shouldNotFallBackToJdkSerialization() {
+        // The previous per-cache configuration used JDK serialization, which cannot handle the DTO records
+        assertThatThrownBy(() -> new JdkSerializationRedisSerializer().serialize(PRODUCT))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    // Previous default value format: JSON with a class name embedded in every entry
+    private static GenericJackson2JsonRedisSerializer typedJsonSerializer() {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(mapper);
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.GenericContainer;
@@ -19,9 +20,11 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 import static com.ecommerce.product.infrastructure.config.CacheConfig.PRODUCT_CACHE;
+import static com.ecommerce.product.infrastructure.config.CacheConfig.PRODUCT_LIST_CACHE;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
@@ -50,6 +53,9 @@ class ProductCacheIntegrationTest {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private ProductListCacheVersions listCacheVersions;
+
     @BeforeEach
     void setUp() {
         // Clear cache before each test
@@ -228,4 +234,72 @@ class ProductCacheIntegrationTest {
         assertThat(cache.get(product2.id())).isNull();
         assertThat(cache.get(product3.id())).isNotNull();
     }
+
+    @Test
+    void shouldKeepCachedProductsDuringBulkImport() {
+        // Given: Warm the cache with a few hot products
+        ProductDto hot1 = productService.createProduct(new CreateProductRequest(
+                "Hot 1", "Hot product 1", "HOT-001", BigDecimal.valueOf(10.00), 10, null));
+        ProductDto hot2 = productService.createProduct(new CreateProductRequest(
+                "Hot 2", "Hot product 2", "HOT-002", BigDecimal.valueOf(20.00), 20, null));
+        productService.getProduct(hot1.id());
+        productService.getProduct(hot2.id());
+
+        // When: Import a batch of new products
+        for (int i = 0; i < 50; i++) {
+            productService.createProduct(new CreateProductRequest(
+                    "Imported " + i, "Imported product " + i, "IMPORT-" + i, BigDecimal.valueOf(5.00), 5, null));
+        }
+
+        // Then: The hot products are still served from cache
+        var cache = cacheManager.getCache(PRODUCT_CACHE);
+        assertThat(cache.get(hot1.id())).isNotNull();
+        assertThat(cache.get(hot2.id())).isNotNull();
+    }
+
+    @Test
+    void shouldInvalidateListPagesOnlyForAffectedCategory() {
+        // Given: Cache the first page of two categories
+        UUID shoes = UUID.randomUUID();
+        UUID books = UUID.randomUUID();
+        productService.createProduct(new CreateProductRequest(
+                "Sneaker", "Shoe", "SHOE-001", BigDecimal.valueOf(80.00), 5, shoes));
+        productService.createProduct(new CreateProductRequest(
+                "Novel", "Book", "BOOK-001", BigDecimal.valueOf(15.00), 5, books));
+        PageRequest firstPage = PageRequest.of(0, 10);
+        productService.getProductsByCategory(shoes, firstPage);
+        productService.getProductsByCategory(books, firstPage);
+
+        // When: A product is added to one category
+        productService.createProduct(new CreateProductRequest(
+                "Boot", "Shoe", "SHOE-002", BigDecimal.valueOf(120.00), 5, shoes));
+
+        // Then: Only that category's page is reloaded
+        var listCache = cacheManager.getCache(PRODUCT_LIST_CACHE);
+        assertThat(listCache.get(listCacheVersions.categoryKey(books, firstPage))).isNotNull();
+        assertThat(listCache.get(listCacheVersions.categoryKey(shoes, firstPage))).isNull();
+        assertThat(productService.getProductsByCategory(shoes, firstPage).getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldBatchLoadInRequestOrderAndBackfillCache() {
+        // Given: three products, one of them already cached
+        UUID first = productService.createProduct(new CreateProductRequest(
+                "Batch 1", "Description", "BATCH-001", BigDecimal.valueOf(1.00), 10, null)).id();
+        UUID second = productService.createProduct(new CreateProductRequest(
+                "Batch 2", "Description", "BATCH-002", BigDecimal.valueOf(2.00), 10, null)).id();
+        UUID third = productService.createProduct(new CreateProductRequest(
+                "Batch 3", "Description", "BATCH-003", BigDecimal.valueOf(3.00), 10, null)).id();
+        productService.getProduct(second);
+
+        // When: requested out of creation order, with a duplicate and an unknown ID
+        List<ProductDto> products = productService.getProducts(
+                List.of(third, second, UUID.randomUUID(), first, third));
+
+        // Then: request order, unknown ID left out, misses backfilled
+        assertThat(products).extracting(ProductDto::id).containsExactly(third, second, first);
+        var cache = cacheManager.getCache(PRODUCT_CACHE);
+        assertThat(cache.get(first)).isNotNull();
+        assertThat(cache.get(third)).isNotNull();
+    }
 }
@@ -0,0 +1,44 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import com.ecommerce.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductIdFilterTest {
+
+    @Test
+    void shouldBoundFallbackLookupsAndRecoverMissedProducts() {
+        // Given: a filter built before a product whose create broadcast never arrived
+        UUID known = UUID.randomUUID();
+        UUID missed = UUID.randomUUID();
+        ProductRepository productRepository = mock(ProductRepository.class);
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(productRepository.findAllIds()).thenReturn(List.of(known));
+        ProductIdFilter filter = new ProductIdFilter(productRepository, redisTemplate, 0.0001, 3);
+        filter.rebuild();
+
+        // When
+        boolean missedBeforeRecovery = filter.mightExist(missed);
+        int allowed = 0;
+        for (int i = 0; i < 100; i++) {
+            allowed += filter.allowFallbackLookup() ? 1 : 0;
+        }
+        filter.recover(missed);
+
+        // Then: the budget of 3 per second runs out (the calls may straddle one second
+        // boundary), and a recovered ID is found again and re-broadcast
+        assertThat(filter.mightExist(known)).isTrue();
+        assertThat(missedBeforeRecovery).isFalse();
+        assertThat(allowed).isBetween(3, 6);
+        assertThat(filter.mightExist(missed)).isTrue();
+        verify(redisTemplate).convertAndSend(ProductIdFilter.CHANNEL, missed.toString());
+    }
+}
@@ -0,0 +1,228 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCache remote;
+    private StringRedisTemplate redisTemplate;
+    private CacheInvalidationBroadcaster broadcaster;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("products", false);
+        redisTemplate = mock(StringRedisTemplate.class);
+        broadcaster = new CacheInvalidationBroadcaster(redisTemplate);
+        cache = new TwoLevelCache("products", Caffeine.newBuilder().maximumSize(100).<String, TwoLevelCache.LocalEntry>build(),
+                remote, broadcaster, null, StampedeProtection.localOnly(Runnable::run));
+        broadcaster.register(cache);
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromLocalLevel() {
+        // Given
+        UUID id = UUID.randomUUID();
+        remote.put(id, "product");
+
+        // When
+        cache.get(id);
+        cache.get(id);
+        cache.get(id);
+
+        // Then
+        assertThat(cache.remoteHits()).isEqualTo(1);
+        assertThat(cache.localHits()).isEqualTo(2);
+        assertThat(cache.localHitRatio()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    void shouldMultiGetFromBothLevels() {
+        // Given: one product in L1 and L2, one only in L2, one missing
+        UUID local = UUID.randomUUID();
+        UUID remoteOnly = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        cache.put(local, "local");
+        remote.put(remoteOnly, "remote");
+
+        // When
+        Map<Object, Object> found = cache.getAll(List.of(local, remoteOnly, missing)).found();
+
+        // Then
+        assertThat(found).containsOnly(entry(local, "local"), entry(remoteOnly, "remote"));
+        assertThat(cache.localHits()).isEqualTo(1);
+        assertThat(cache.remoteHits()).isEqualTo(1);
+        assertThat(cache.remoteMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotBackfillKeyEvictedAfterMultiGet() {
+        // Given: two misses read from the database, one updated and evicted meanwhile
+        UUID updated = UUID.randomUUID();
+        UUID unchanged = UUID.randomUUID();
+        MultiGetCache.MultiGet lookup = cache.getAll(List.of(updated, unchanged));
+        cache.evict(updated);
+
+        // When
+        cache.putAll(Map.of(updated, "stale", unchanged, "product"), lookup);
+
+        // Then
+        assertThat(cache.get(updated)).isNull();
+        assertThat(remote.get(updated)).isNull();
+        assertThat(cache.get(unchanged).get()).isEqualTo("product");
+    }
+
+    @Test
+    void shouldLoadExpiredHotKeyOnceForConcurrentReaders() throws Exception {
+        // Given: a hot key that is missing from both levels
+        UUID id = UUID.randomUUID();
+        AtomicInteger databaseQueries = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When: 1,000 readers miss at the same moment
+        try (ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                results.add(readers.submit(() -> {
+                    start.await();
+                    return cache.get(id, () -> {
+                        databaseQueries.incrementAndGet();
+                        Thread.sleep(50);
+                        return "product";
+                    });
+                }));
+            }
+            start.countDown();
+
+            // Then: every reader gets the value and the database is queried once
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("product");
+            }
+        }
+        assertThat(databaseQueries).hasValue(1);
+        assertThat(cache.loads()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheValueLoadedAcrossAnEviction() {
+        // Given: the product changes and is evicted while a load is reading it
+        UUID id = UUID.randomUUID();
+
+        // When
+        String loaded = cache.get(id, () -> {
+            cache.evict(id);
+            return "stale";
+        });
+
+        // Then: the caller gets what was read, but neither level keeps it
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(remote.get(id)).isNull();
+        assertThat(cache.get(id)).isNull();
+    }
+
+    @Test
+    void shouldLoadMissIndependentlyOfPendingEarlyRefresh() {
+        // Given: an entry near expiry whose early refresh is queued but not yet run
+        UUID id = UUID.randomUUID();
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        com.github.benmanes.caffeine.cache.Cache<String, TwoLevelCache.LocalEntry> local =
+                Caffeine.newBuilder().maximumSize(100).build();
+        TwoLevelCache refreshingCache = new TwoLevelCache("products", local, remote, broadcaster, null,
+                StampedeProtection.localOnly(pendingRefreshes::add));
+        local.put(id.toString(), new TwoLevelCache.LocalEntry("old", System.currentTimeMillis() - 1, 50_000_000));
+        refreshingCache.get(id, () -> "refreshed");
+        assertThat(pendingRefreshes).hasSize(1);
+
+        // When: the key is evicted and read again before the refresh runs
+        refreshingCache.evict(id);
+        String loaded = refreshingCache.get(id, () -> "fresh");
+
+        // Then: the miss loads on its own instead of waiting for the queued refresh
+        pendingRefreshes.forEach(Runnable::run);
+        assertThat(loaded).isEqualTo("fresh");
+        assertThat(refreshingCache.get(id).get()).isEqualTo("fresh");
+    }
+
+    @Test
+    void shouldRefreshEarlyOnlyNearExpiry() {
+        StampedeProtection stampede = StampedeProtection.localOnly(Runnable::run);
+        long loadNanos = 50_000_000;
+
+        assertThat(stampede.shouldRefreshEarly(System.currentTimeMillis() - 1, loadNanos)).isTrue();
+        assertThat(stampede.shouldRefreshEarly(System.currentTimeMillis() + 3_600_000, loadNanos)).isFalse();
+        assertThat(stampede.shouldRefreshEarly(RedisCacheReader.NO_EXPIRY, loadNanos)).isFalse();
+    }
+
+    @Test
+    void shouldEvictBothLevelsAndBroadcast() {
+        // Given
+        UUID id = UUID.randomUUID();
+        cache.put(id, "product");
+
+        // When
+        cache.evict(id);
+
+        // Then
+        assertThat(cache.get(id)).isNull();
+        assertThat(remote.get(id)).isNull();
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CacheInvalidationBroadcaster.CHANNEL), message.capture());
+        assertThat(message.getValue()).endsWith("|products|" + id);
+    }
+
+    @Test
+    void shouldEvictLocalLevelOnPeerInvalidation() {
+        // Given: a value cached locally, then removed from Redis by another instance
+        UUID id = UUID.randomUUID();
+        cache.put(id, "product");
+        remote.evict(id);
+
+        // When
+        broadcaster.onMessage(message("peer-instance|products|" + id), null);
+
+        // Then
+        assertThat(cache.get(id)).isNull();
+    }
+
+    @Test
+    void shouldClearLocalLevelOnPeerClear() {
+        // Given
+        UUID id = UUID.randomUUID();
+        cache.put(id, "product");
+        remote.clear();
+
+        // When
+        broadcaster.onMessage(message("peer-instance|products|"), null);
+
+        // Then
+        assertThat(cache.get(id)).isNull();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CacheInvalidationBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,169 @@
+package com.ecommerce.product.infrastructure.inventory;
+
+import com.ecommerce.product.application.dto.CreateProductRequest;
+import com.ecommerce.product.application.service.ProductService;
+import com.ecommerce.product.infrastructure.persistence.ProductJpaRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+// A second cached context needs its own on-disk state next to ProductCacheIntegrationTest's
+@SpringBootTest(properties = {
+        "product.inventory.hot.flush-interval=PT1H",
+        "product.inventory.deltas.log-directory=${java.io.tmpdir}/product-service/hot-inventory-test/stock-deltas",
+        "product.search.index-directory=${java.io.tmpdir}/product-service/hot-inventory-test/search-index"
+})
+@Testcontainers
+class HotInventoryRecoveryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgres:16-alpine")
+    );
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", redis::getFirstMappedPort);
+    }
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductJpaRepository jpaRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    void shouldKeepRedisAndPostgresConsistentAcrossCrashes() throws Exception {
+        // Given: a hot product with 100 units
+        UUID productId = productService.createProduct(new CreateProductRequest(
+                "Hot Product", "Description", "HOT-REDIS-001", BigDecimal.valueOf(19.99), 100, null)).id();
+        productService.enableHotInventory(productId);
+
+        // When: 150 concurrent buyers of one unit
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService buyers = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 150; i++) {
+                buyers.submit(() -> {
+                    start.await();
+                    return productService.reserveStock(productId, 1);
+                });
+            }
+            start.countDown();
+        }
+
+        // Then: Redis sold out exactly, Postgres catches up on flush
+        assertThat(redisStock(productId)).isZero();
+        assertThat(databaseStock(productId)).isEqualTo(100);
+        assertThat(newWriteBehind().flush()).isEqualTo(1);
+        assertThat(databaseStock(productId)).isZero();
+
+        // When: the app dies after changing Redis but before flushing
+        productService.updateStock(productId, 40);
+        productService.reserveStock(productId, 5);
+
+        // Then: a restarted instance finds the product still dirty and writes it
+        assertThat(databaseStock(productId)).isZero();
+        assertThat(newWriteBehind().flush()).isEqualTo(1);
+        assertThat(databaseStock(productId)).isEqualTo(35);
+
+        // When: the app dies after writing Postgres but before clearing the dirty flag
+        redisTemplate.opsForSet().add(HotInventory.DIRTY_KEY, productId.toString());
+
+        // Then: the repeated flush finds the row current and clears the flag
+        assertThat(newWriteBehind().flush()).isEqualTo(1);
+        assertThat(databaseStock(productId)).isEqualTo(35);
+        assertThat(redisTemplate.opsForSet().size(HotInventory.DIRTY_KEY)).isZero();
+
+        // When: Redis restarts empty
+        redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+
+        // Then: the next reservation reloads the stock from Postgres
+        assertThat(productService.reserveStock(productId, 5).remainingStock()).isEqualTo(30);
+        newWriteBehind().flush();
+        assertThat(databaseStock(productId)).isEqualTo(30);
+
+        // When: the product goes back to Postgres
+        productService.reserveStock(productId, 10);
+        productService.disableHotInventory(productId);
+
+        // Then: the final Redis stock is kept and reservations lock the row again
+        assertThat(databaseStock(productId)).isEqualTo(20);
+        assertThat(redisTemplate.hasKey(HotInventory.stockKey(productId))).isFalse();
+        assertThat(productService.reserveStock(productId, 20).remainingStock()).isZero();
+    }
+
+    @Test
+    void shouldNotLetAStaleFlushOverwriteANewerOne() {
+        // Given: a hot product with unflushed Redis stock
+        UUID productId = productService.createProduct(new CreateProductRequest(
+                "Hot Product", "Description", "HOT-REDIS-002", BigDecimal.valueOf(19.99), 10, null)).id();
+        productService.enableHotInventory(productId);
+        productService.reserveStock(productId, 5);
+
+        // When: instance A reads Redis (5 left), then instance B sees a newer reservation
+        // (4 left) and completes its flush before A writes
+        ProductJpaRepository slowRepository = mock(ProductJpaRepository.class,
+                AdditionalAnswers.delegatesTo(jpaRepository));
+        doAnswer(invocation -> {
+            productService.reserveStock(productId, 1);
+            newWriteBehind().flush();
+            return jpaRepository.writeBackStock(invocation.getArgument(0), invocation.getArgument(1),
+                    invocation.getArgument(2));
+        }).when(slowRepository).writeBackStock(any(), any(), any());
+        new InventoryWriteBehind(redisTemplate, slowRepository, 500).flush();
+
+        // Then: Postgres keeps B's newer value and the product is clean
+        assertThat(databaseStock(productId)).isEqualTo(4);
+        assertThat(redisTemplate.opsForSet().isMember(HotInventory.DIRTY_KEY, productId.toString())).isFalse();
+
+        // When: Redis loses the product
+        redisTemplate.delete(HotInventory.stockKey(productId));
+
+        // Then: it is reloaded with the newer stock, so nothing is oversold
+        assertThat(productService.reserveStock(productId, 4).remainingStock()).isZero();
+        newWriteBehind().flush();
+        assertThat(databaseStock(productId)).isZero();
+    }
+
+    private InventoryWriteBehind newWriteBehind() {
+        return new InventoryWriteBehind(redisTemplate, jpaRepository, 500);
+    }
+
+    private int redisStock(UUID productId) {
+        return Integer.parseInt((String) redisTemplate.opsForHash().get(HotInventory.stockKey(productId), HotInventory.STOCK_FIELD));
+    }
+
+    private int databaseStock(UUID productId) {
+        return jpaRepository.findById(productId).orElseThrow().getStockQuantity();
+    }
+}
@@ -0,0 +1,146 @@
+package com.ecommerce.product.infrastructure.inventory;
+
+import com.ecommerce.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static com.ecommerce.product.infrastructure.config.CacheConfig.PRODUCT_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StockDeltaBufferTest {
+
+    @TempDir
+    Path logDirectory;
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final HotInventory hotInventory = mock(HotInventory.class);
+    private final List<Map<UUID, Integer>> writtenBatches = new ArrayList<>();
+    private final Set<Long> appliedSequences = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        when(productRepository.applyStockDeltas(any(), anyLong(), any())).thenAnswer(invocation -> {
+            if (!appliedSequences.add(invocation.getArgument(1))) {
+                return Optional.empty();
+            }
+            Map<UUID, Integer> deltas = new HashMap<>(invocation.getArgument(2));
+            writtenBatches.add(deltas);
+            return Optional.of(deltas.keySet());
+        });
+    }
+
+    @Test
+    void shouldWriteOneRowPerProductWhateverTheDeltaVolume() {
+        List<UUID> products = IntStream.range(0, 50).mapToObj(i -> UUID.randomUUID()).toList();
+
+        for (int volume : new int[]{1_000, 10_000, 100_000}) {
+            // Given
+            StockDeltaBuffer buffer = newBuffer();
+            writtenBatches.clear();
+
+            // When: deltas of +2 and -1 arrive in feed messages of 1000
+            for (int sent = 0; sent < volume; sent += 1_000) {
+                Map<UUID, Integer> message = new HashMap<>();
+                for (int i = sent; i < sent + 1_000; i++) {
+                    message.merge(products.get(i % products.size()), i % 2 == 0 ? 2 : -1, Integer::sum);
+                }
+                buffer.append(message);
+            }
+            int rowsWritten = buffer.flush();
+
+            // Then: one statement, one row per product, net deltas preserved
+            assertThat(writtenBatches).hasSize(1);
+            assertThat(rowsWritten).isEqualTo(products.size());
+            int expectedTotal = volume / 2 * 2 - volume / 2;
+            assertThat(writtenBatches.getFirst().values().stream().mapToInt(Integer::intValue).sum())
+                    .isEqualTo(expectedTotal);
+        }
+    }
+
+    @Test
+    void shouldReplayUnflushedDeltasAfterCrashWithoutCountingTwice() {
+        // Given: deltas acknowledged but never flushed before the instance died
+        UUID product = UUID.randomUUID();
+        newBuffer().append(Map.of(product, 7));
+        newBuffer().append(Map.of(product, 3));
+
+        // When: the restarted instance flushes
+        StockDeltaBuffer restarted = newBuffer();
+        restarted.flush();
+
+        // Then: both segments are applied once, and a second flush has nothing left
+        assertThat(writtenBatches).hasSize(2);
+        assertThat(writtenBatches.stream().mapToInt(batch -> batch.get(product)).sum()).isEqualTo(10);
+        assertThat(restarted.flush()).isZero();
+        assertThat(writtenBatches).hasSize(2);
+    }
+
+    @Test
+    void shouldSkipSegmentAlreadyAppliedBeforeCrash() {
+        // Given: Postgres committed the segment but the file was not deleted
+        UUID product = UUID.randomUUID();
+        StockDeltaBuffer buffer = newBuffer();
+        buffer.append(Map.of(product, 5));
+        appliedSequences.add(1L);
+
+        // When
+        int rowsWritten = newBuffer().flush();
+
+        // Then
+        assertThat(rowsWritten).isZero();
+        assertThat(writtenBatches).isEmpty();
+    }
+
+    @Test
+    void shouldReplaySegmentToRedisWhenCrashFollowedPostgresCommit() {
+        // Given: a Redis-managed product whose Redis update fails after Postgres committed
+        UUID product = UUID.randomUUID();
+        doAnswer(invocation -> appliedSequences.add(invocation.getArgument(1))
+                ? Optional.of(Set.of())
+                : Optional.empty())
+                .when(productRepository).applyStockDeltas(any(), anyLong(), any());
+        when(hotInventory.adopt(product)).thenReturn(true);
+        when(hotInventory.adjust(eq(product), eq(5), any(), eq(1L)))
+                .thenThrow(new IllegalStateException("Redis unavailable"))
+                .thenReturn(new HotInventory.StockChange(true, OptionalInt.of(5)));
+        StockDeltaBuffer buffer = newBuffer();
+        buffer.append(Map.of(product, 5));
+
+        // When
+        assertThatThrownBy(buffer::flush).isInstanceOf(IllegalStateException.class);
+        buffer.flush();
+        buffer.flush();
+
+        // Then: the kept segment is replayed to Redis under the same sequence, then deleted
+        verify(hotInventory, times(2)).adjust(eq(product), eq(5), any(), eq(1L));
+        assertThat(appliedSequences).containsExactly(1L);
+    }
+
+    private StockDeltaBuffer newBuffer() {
+        return new StockDeltaBuffer(logDirectory, productRepository, hotInventory,
+                new ConcurrentMapCacheManager(PRODUCT_CACHE));
+    }
+}
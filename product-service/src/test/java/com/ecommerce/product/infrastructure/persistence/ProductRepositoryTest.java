@@ -1,13 +1,21 @@
 package com.ecommerce.product.infrastructure.persistence;
 
+import com.ecommerce.common.domain.Money;
+import com.ecommerce.product.domain.entity.Category;
 import com.ecommerce.product.domain.entity.Product;
+import com.ecommerce.product.domain.repository.CategoryRepository;
 import com.ecommerce.product.domain.repository.ProductRepository;
-import com.ecommerce.product.domain.valueobject.Money;
+import com.ecommerce.product.domain.valueobject.CategoryTree;
+import com.ecommerce.product.domain.valueobject.ProductListingKey;
+import com.ecommerce.product.domain.valueobject.ProductSearchHit;
+import com.ecommerce.product.domain.valueobject.ProductSort;
+import com.ecommerce.product.domain.valueobject.ProductSummary;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -16,6 +24,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DataJpaTest
 @Testcontainers
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProductRepositoryImpl.class, ProductMapper.class, CategoryRepositoryImpl.class, CategoryMapper.class})
 class ProductRepositoryTest {
 
     @Container
@@ -35,6 +45,9 @@ class ProductRepositoryTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private CategoryRepository categoryRepository;
+
     @Test
     void shouldSaveAndFindProduct() {
         // Given
@@ -247,4 +260,105 @@ class ProductRepositoryTest {
         Product updated = productRepository.findById(product.getId()).orElseThrow();
         assertThat(updated.getStockQuantity()).isEqualTo(75);
     }
+
+    @Test
+    void shouldRankNameMatchesFirstAndPageByKeyset() {
+        // Given: "espresso" in the name of two products and the description of a third
+        Product inName = productRepository.save(Product.create(
+                "Espresso Machine", "Stainless steel", "SEARCH-1", Money.of(BigDecimal.valueOf(299)), 5, null));
+        Product inBoth = productRepository.save(Product.create(
+                "Espresso Grinder", "Burr grinder for espresso", "SEARCH-2", Money.of(BigDecimal.valueOf(149)), 5, null));
+        Product inDescription = productRepository.save(Product.create(
+                "Coffee Cups", "Cups sized for espresso", "SEARCH-3", Money.of(BigDecimal.valueOf(19)), 5, null));
+        productRepository.save(Product.create(
+                "Tea Kettle", "Gooseneck kettle", "SEARCH-4", Money.of(BigDecimal.valueOf(39)), 5, null));
+
+        // When: two pages of two
+        List<ProductSearchHit> first = productRepository.search("espresso", null, 2);
+        List<ProductSearchHit> second = productRepository.search("espresso", first.getLast(), 2);
+
+        // Then: name matches outrank the description-only match, pages do not overlap
+        assertThat(first).extracting(ProductSearchHit::productId)
+                .containsExactlyInAnyOrder(inName.getId(), inBoth.getId());
+        assertThat(second).extracting(ProductSearchHit::productId).containsExactly(inDescription.getId());
+        assertThat(productRepository.search("SEARCH-4", null, 10)).hasSize(1);
+    }
+
+    @Test
+    void shouldLoadCategoryTreeAndListWholeSubtrees() {
+        // Given: Electronics > Audio > Headphones, and Books
+        Category electronics = categoryRepository.save(Category.create("Electronics", null));
+        Category audio = categoryRepository.save(Category.createWithParent("Audio", null, electronics.getId()));
+        Category headphones = categoryRepository.save(Category.createWithParent("Headphones", null, audio.getId()));
+        Category books = categoryRepository.save(Category.create("Books", null));
+        Product tv = productRepository.save(Product.create("TV", null, "TREE-1", Money.of(BigDecimal.TEN), 1, electronics.getId()));
+        Product speaker = productRepository.save(Product.create("Speaker", null, "TREE-2", Money.of(BigDecimal.TEN), 1, audio.getId()));
+        Product earbuds = productRepository.save(Product.create("Earbuds", null, "TREE-3", Money.of(BigDecimal.TEN), 1, headphones.getId()));
+        productRepository.save(Product.create("Novel", null, "TREE-4", Money.of(BigDecimal.TEN), 1, books.getId()));
+
+        // When
+        CategoryTree tree = CategoryTree.of(categoryRepository.findTree());
+
+        // Then
+        CategoryTree.Node root = tree.find(electronics.getId()).orElseThrow();
+        assertThat(tree.roots()).extracting(CategoryTree.Node::id).contains(electronics.getId(), books.getId());
+        assertThat(root.subtreeIds()).containsExactlyInAnyOrder(electronics.getId(), audio.getId(), headphones.getId());
+        assertThat(root.productCount()).isEqualTo(1);
+        assertThat(root.subtreeProductCount()).isEqualTo(3);
+        assertThat(tree.find(audio.getId()).orElseThrow().subtreeProductCount()).isEqualTo(2);
+
+        assertThat(productRepository.findIdsInCategories(root.subtreeIds(), 0, 10))
+                .containsExactly(earbuds.getId(), speaker.getId(), tv.getId());
+        assertThat(productRepository.findIdsInCategories(root.subtreeIds(), 1, 1))
+                .containsExactly(speaker.getId());
+    }
+
+    @Test
+    void shouldPageListingsByKeyset() {
+        // Given: three products in one category, at distinct prices, and one elsewhere
+        UUID categoryId = UUID.randomUUID();
+        Product mid = productRepository.save(Product.create(
+                "Mid", null, "KEYSET-1", Money.of(BigDecimal.valueOf(20)), 1, categoryId));
+        Product cheap = productRepository.save(Product.create(
+                "Cheap", null, "KEYSET-2", Money.of(BigDecimal.valueOf(10)), 1, categoryId));
+        Product dear = productRepository.save(Product.create(
+                "Dear", null, "KEYSET-3", Money.of(BigDecimal.valueOf(30)), 1, categoryId));
+        productRepository.save(Product.create(
+                "Other", null, "KEYSET-4", Money.of(BigDecimal.valueOf(15)), 1, UUID.randomUUID()));
+
+        // When: two pages of two, cheapest first
+        List<ProductListingKey> first = productRepository.findPage(categoryId, ProductSort.PRICE_ASC, null, 2);
+        List<ProductListingKey> second = productRepository.findPage(categoryId, ProductSort.PRICE_ASC, first.getLast(), 2);
+
+        // Then: pages continue where the last left off
+        assertThat(first).extracting(ProductListingKey::productId).containsExactly(cheap.getId(), mid.getId());
+        assertThat(second).extracting(ProductListingKey::productId).containsExactly(dear.getId());
+        assertThat(productRepository.findPage(categoryId, ProductSort.PRICE_DESC, null, 1))
+                .extracting(ProductListingKey::productId).containsExactly(dear.getId());
+        assertThat(productRepository.findPage(categoryId, ProductSort.NEWEST, null, 10))
+                .extracting(ProductListingKey::productId)
+                .containsExactlyInAnyOrder(mid.getId(), cheap.getId(), dear.getId());
+    }
+
+    @Test
+    void shouldReadListingSummariesWithoutLoadingProducts() {
+        // Given
+        UUID categoryId = UUID.randomUUID();
+        Product product = productRepository.save(Product.create(
+                "Summary Product", "Long description", "SUMMARY-1", Money.of(BigDecimal.valueOf(12.50)), 7, categoryId));
+
+        // When
+        List<ProductSummary> byId = productRepository.findSummariesByIds(List.of(product.getId()));
+        Page<ProductSummary> byCategory = productRepository.findSummariesByCategoryId(categoryId, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(byId).singleElement().satisfies(summary -> {
+            assertThat(summary.name()).isEqualTo("Summary Product");
+            assertThat(summary.price()).isEqualByComparingTo(BigDecimal.valueOf(12.50));
+            assertThat(summary.stockQuantity()).isEqualTo(7);
+            assertThat(summary.isAvailable()).isTrue();
+        });
+        assertThat(byCategory.getTotalElements()).isEqualTo(1);
+        assertThat(byCategory.getContent()).extracting(ProductSummary::id).containsExactly(product.getId());
+    }
 }
@@ -0,0 +1,178 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.common.domain.Money;
+import com.ecommerce.product.domain.entity.Product;
+import com.ecommerce.product.domain.repository.ProductRepository;
+import com.ecommerce.product.domain.repository.StockHoldRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProductRepositoryImpl.class, StockHoldRepositoryImpl.class, ProductMapper.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductStockConcurrencyTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgres:16-alpine")
+    );
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockHoldRepository stockHoldRepository;
+
+    @Test
+    void shouldNeverOversellUnderConcurrentReservations() throws Exception {
+        // Given: 100 units and 300 buyers of one unit each
+        Product product = productRepository.save(newProduct("HOT-SKU", 100));
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<OptionalInt>> results = new ArrayList<>();
+        try (ExecutorService buyers = Executors.newFixedThreadPool(32)) {
+            for (int i = 0; i < 300; i++) {
+                results.add(buyers.submit(() -> {
+                    start.await();
+                    return productRepository.reserveStock(product.getId(), 1);
+                }));
+            }
+            start.countDown();
+        }
+
+        // Then: exactly 100 reservations succeed and stock ends at zero
+        int succeeded = 0;
+        for (Future<OptionalInt> result : results) {
+            if (result.get().isPresent()) {
+                succeeded++;
+            }
+        }
+        assertThat(succeeded).isEqualTo(100);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isZero();
+    }
+
+    @Test
+    void shouldNeverOversellAcrossStockSlots() throws Exception {
+        // Given: 100 units striped over 8 slots and 300 buyers of one or two units
+        Product product = productRepository.save(newProduct("STRIPED-SKU", 100));
+        productRepository.stripeStock(product.getId(), 8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<OptionalInt>> results = new ArrayList<>();
+        List<Integer> quantities = new ArrayList<>();
+        try (ExecutorService buyers = Executors.newFixedThreadPool(32)) {
+            for (int i = 0; i < 300; i++) {
+                int quantity = 1 + i % 2;
+                quantities.add(quantity);
+                results.add(buyers.submit(() -> {
+                    start.await();
+                    return productRepository.reserveStock(product.getId(), quantity);
+                }));
+            }
+            start.countDown();
+        }
+
+        // Then: reserved units plus what is left add up to the original 100
+        int reserved = 0;
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i).get().isPresent()) {
+                reserved += quantities.get(i);
+            }
+        }
+        int left = productRepository.findById(product.getId()).orElseThrow().getStockQuantity();
+        assertThat(left).isGreaterThanOrEqualTo(0).isLessThan(2);
+        assertThat(reserved + left).isEqualTo(100);
+
+        // And setting stock or merging the slots keeps the total
+        productRepository.setStock(product.getId(), 40);
+        productRepository.stripeStock(product.getId(), 0);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(40);
+    }
+
+    @Test
+    void shouldReserveOnlyProductsWithEnoughStockInBatch() {
+        // Given
+        Product plenty = productRepository.save(newProduct("BATCH-PLENTY", 10));
+        Product scarce = productRepository.save(newProduct("BATCH-SCARCE", 1));
+        Map<UUID, Integer> order = new LinkedHashMap<>();
+        order.put(plenty.getId(), 3);
+        order.put(scarce.getId(), 2);
+
+        // When
+        Map<UUID, Integer> remaining = productRepository.reserveStock(order);
+
+        // Then: the caller sees the shortfall and rolls back
+        assertThat(remaining).containsOnlyKeys(plenty.getId());
+        assertThat(remaining.get(plenty.getId())).isEqualTo(7);
+    }
+
+    @Test
+    void shouldReleaseStock() {
+        // Given
+        Product product = productRepository.save(newProduct("RELEASE-SKU", 5));
+
+        // When
+        OptionalInt stock = productRepository.releaseStock(product.getId(), 2);
+
+        // Then
+        assertThat(stock).hasValue(7);
+        assertThat(productRepository.releaseStock(UUID.randomUUID(), 1)).isEmpty();
+    }
+
+    @Test
+    void shouldExpireHoldsOldestFirstInBatches() {
+        // Given: two expired holds and one still active
+        Product product = productRepository.save(newProduct("HOLD-SKU", 0));
+        Instant now = Instant.now();
+        UUID oldest = UUID.randomUUID();
+        UUID expired = UUID.randomUUID();
+        UUID active = UUID.randomUUID();
+        stockHoldRepository.save(oldest, Map.of(product.getId(), 1), now.minus(Duration.ofMinutes(10)));
+        stockHoldRepository.save(expired, Map.of(product.getId(), 2), now.minus(Duration.ofMinutes(1)));
+        stockHoldRepository.save(active, Map.of(product.getId(), 4), now.plus(Duration.ofMinutes(10)));
+
+        // When / Then: batches of one take the oldest expired hold first
+        assertThat(stockHoldRepository.deleteExpired(now, 1)).containsEntry(product.getId(), 1);
+        assertThat(stockHoldRepository.deleteExpired(now, 1)).containsEntry(product.getId(), 2);
+        assertThat(stockHoldRepository.deleteExpired(now, 1)).isEmpty();
+
+        // And the active hold can be confirmed exactly once
+        assertThat(stockHoldRepository.deleteActive(active, now)).containsEntry(product.getId(), 4);
+        assertThat(stockHoldRepository.deleteActive(active, now)).isEmpty();
+    }
+
+    private static Product newProduct(String sku, int stock) {
+        return Product.create("Product " + sku, "Description", sku, Money.of(BigDecimal.valueOf(9.99)), stock, null);
+    }
+}
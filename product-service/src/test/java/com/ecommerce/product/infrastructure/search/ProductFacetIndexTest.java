@@ -0,0 +1,102 @@
+package com.ecommerce.product.infrastructure.search;
+
+import com.ecommerce.common.domain.Money;
+import com.ecommerce.product.application.dto.ProductFacetFilter;
+import com.ecommerce.product.domain.entity.Product;
+import com.ecommerce.product.domain.repository.ProductRepository;
+import com.ecommerce.product.domain.valueobject.ProductStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductFacetIndexTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductFacetIndex index = new ProductFacetIndex(productRepository,
+            List.of(BigDecimal.valueOf(10), BigDecimal.valueOf(50)));
+
+    private final UUID shoes = UUID.randomUUID();
+    private final UUID books = UUID.randomUUID();
+
+    @Test
+    void shouldFilterAndCountEachFacetUnderTheOtherFilters() {
+        // Given
+        Product sneaker = product(shoes, "80.00", 5);
+        Product sandal = product(shoes, "30.00", 0);
+        Product novel = product(books, "8.00", 3);
+        Product atlas = product(books, "45.00", 1);
+        atlas.deactivate();
+        when(productRepository.findPageAfter(any(), anyInt())).thenReturn(List.of(sneaker, sandal, novel, atlas));
+        index.rebuild();
+
+        // When: active products in stock
+        ProductFacetIndex.Selection selection = index.select(
+                new ProductFacetFilter(null, List.of(ProductStatus.ACTIVE), null, true), 0, 10);
+
+        // Then
+        assertThat(selection.productIds()).containsExactlyInAnyOrder(sneaker.getId(), novel.getId());
+        assertThat(selection.total()).isEqualTo(2);
+        assertThat(selection.counts().categories()).containsOnlyKeys(shoes, books);
+        assertThat(selection.counts().statuses().get(ProductStatus.INACTIVE)).isEqualTo(1);
+        assertThat(selection.counts().priceBands()).containsExactly(
+                Map.entry("0-10", 1), Map.entry("10-50", 0), Map.entry("50+", 1));
+        assertThat(selection.counts().inStock()).isEqualTo(2);
+        assertThat(selection.counts().outOfStock()).isEqualTo(1);
+
+        // When: two price bands and one category
+        selection = index.select(new ProductFacetFilter(List.of(shoes), null, List.of("10-50", "50+"), null), 0, 10);
+
+        // Then
+        assertThat(selection.productIds()).containsExactlyInAnyOrder(sneaker.getId(), sandal.getId());
+        assertThat(selection.counts().categories()).containsEntry(books, 1);
+    }
+
+    @Test
+    void shouldApplyChangesAndPage() {
+        // Given
+        when(productRepository.findPageAfter(any(), anyInt())).thenReturn(List.of());
+        index.rebuild();
+        Product first = product(shoes, "5.00", 1);
+        Product second = product(shoes, "5.00", 1);
+        Product third = product(shoes, "5.00", 1);
+        index.upsert(first);
+        index.upsert(second);
+        index.upsert(third);
+
+        // When: one product sells out, one moves category and one is deleted
+        index.stockChanged(first.getId(), 0);
+        second.updateDetails(second.getName(), null, Money.of(new BigDecimal("60.00")));
+        index.upsert(second);
+        index.delete(third.getId());
+
+        // Then
+        ProductFacetFilter all = new ProductFacetFilter(null, null, null, null);
+        assertThat(index.select(all, 0, 10).productIds()).containsExactly(first.getId(), second.getId());
+        assertThat(index.select(all, 1, 10).productIds()).containsExactly(second.getId());
+        assertThat(index.select(all, 2, 10).productIds()).isEmpty();
+        assertThat(index.select(new ProductFacetFilter(null, null, null, true), 0, 10).productIds())
+                .containsExactly(second.getId());
+        assertThat(index.select(new ProductFacetFilter(null, null, List.of("50+"), null), 0, 10).productIds())
+                .containsExactly(second.getId());
+    }
+
+    @Test
+    void shouldRejectUnknownPriceBands() {
+        assertThatThrownBy(() -> index.select(new ProductFacetFilter(null, null, List.of("1-2"), null), 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Product product(UUID categoryId, String price, int stock) {
+        return Product.create("Product", null, "SKU-" + UUID.randomUUID(), Money.of(new BigDecimal(price)), stock, categoryId);
+    }
+}
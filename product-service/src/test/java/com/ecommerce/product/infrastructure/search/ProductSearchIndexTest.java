@@ -0,0 +1,98 @@
+package com.ecommerce.product.infrastructure.search;
+
+import com.ecommerce.common.domain.Money;
+import com.ecommerce.product.domain.entity.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    @TempDir
+    Path indexDirectory;
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(indexDirectory);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void shouldMatchMisspelledWordsAndExactSkus() {
+        // Given
+        Product headphones = product("Wireless Headphones", "Noise cancelling over-ear", "AUD-100", null);
+        Product speaker = product("Bluetooth Speaker", "Portable and waterproof", "AUD-200", null);
+        index.upsert(headphones);
+        index.upsert(speaker);
+        index.refresh();
+
+        // When / Then
+        assertThat(index.search("wirless headphnes", null, 0, 10)).containsExactly(headphones.getId());
+        assertThat(index.search("waterprof", null, 0, 10)).containsExactly(speaker.getId());
+        assertThat(index.search("aud-200", null, 0, 10)).containsExactly(speaker.getId());
+        assertThat(index.search("wireless speaker", null, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void shouldApplyUpdatesDeletesAndFilters() {
+        // Given
+        UUID shoes = UUID.randomUUID();
+        Product sneaker = product("Running Sneaker", "Lightweight", "SHOE-1", shoes);
+        Product book = product("Running Guide", "Paperback", "BOOK-1", UUID.randomUUID());
+        index.upsert(sneaker);
+        index.upsert(book);
+        index.refresh();
+        assertThat(index.search("running", null, 0, 10)).hasSize(2);
+        assertThat(index.search("running", shoes, 0, 10)).containsExactly(sneaker.getId());
+
+        // When: one product is renamed and the other removed or deactivated
+        sneaker.updateDetails("Trail Sneaker", "Lightweight", sneaker.getPrice());
+        index.upsert(sneaker);
+        index.delete(book.getId());
+        index.refresh();
+
+        // Then
+        assertThat(index.search("running", null, 0, 10)).isEmpty();
+        assertThat(index.search("trail", null, 0, 10)).containsExactly(sneaker.getId());
+        assertThat(index.size()).isEqualTo(1);
+
+        sneaker.deactivate();
+        index.upsert(sneaker);
+        index.refresh();
+        assertThat(index.search("trail", null, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void shouldKeepCommittedDocumentsAcrossRestart() throws IOException {
+        // Given
+        Product product = product("Espresso Machine", "Stainless steel", "KIT-1", null);
+        index.upsert(product);
+        index.commit();
+        index.close();
+
+        // When
+        index = new ProductSearchIndex(indexDirectory);
+
+        // Then
+        assertThat(index.lastCommit()).isPresent();
+        assertThat(index.search("espresso", null, 0, 10)).containsExactly(product.getId());
+    }
+
+    private static Product product(String name, String description, String sku, UUID categoryId) {
+        return Product.create(name, description, sku, Money.of(BigDecimal.TEN), 1, categoryId);
+    }
+}
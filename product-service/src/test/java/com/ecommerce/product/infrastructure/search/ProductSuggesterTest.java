@@ -0,0 +1,75 @@
+package com.ecommerce.product.infrastructure.search;
+
+import com.ecommerce.common.domain.Money;
+import com.ecommerce.product.domain.entity.Product;
+import com.ecommerce.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductSuggesterTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductPopularity popularity = mock(ProductPopularity.class);
+
+    @Test
+    void shouldCompletePrefixesMostPopularFirst() {
+        // Given
+        Product headphones = product("Wireless Headphones", "AUD-100");
+        Product headset = product("Wireless Headset", "AUD-101");
+        Product mouse = product("Wireless Mouse", "PC-200");
+        Product retired = product("Wireless Charger", "PWR-300");
+        retired.deactivate();
+        when(productRepository.findPageAfter(any(), anyInt()))
+                .thenReturn(List.of(headphones, headset, mouse, retired));
+        when(popularity.top(anyInt())).thenReturn(Map.of(headset.getId(), 40L, mouse.getId(), 5L));
+        ProductSuggester suggester = new ProductSuggester(productRepository, popularity, 100);
+
+        // When
+        suggester.rebuild();
+
+        // Then
+        assertThat(suggester.suggest("wire", 10))
+                .containsExactly("Wireless Headset", "Wireless Mouse", "Wireless Headphones");
+        assertThat(suggester.suggest("wireless head", 10))
+                .containsExactly("Wireless Headset", "Wireless Headphones");
+        assertThat(suggester.suggest("aud-10", 10)).containsExactly("AUD-101", "AUD-100");
+        assertThat(suggester.suggest("wire", 1)).containsExactly("Wireless Headset");
+    }
+
+    @Test
+    void shouldKeepOnlyTheMostPopularEntriesWhenOverTheLimit() {
+        // Given
+        Product popular = product("Espresso Machine", "KIT-1");
+        Product obscure = product("Espresso Cups", "KIT-2");
+        when(productRepository.findPageAfter(any(), anyInt())).thenReturn(List.of(popular, obscure));
+        when(popularity.top(anyInt())).thenReturn(Map.of(popular.getId(), 10L));
+        ProductSuggester suggester = new ProductSuggester(productRepository, popularity, 2);
+
+        // When
+        suggester.rebuild();
+
+        // Then
+        assertThat(suggester.suggest("espresso", 10)).containsExactly("Espresso Machine");
+        assertThat(suggester.suggest("kit", 10)).containsExactly("KIT-1");
+    }
+
+    @Test
+    void shouldReturnNothingBeforeFirstBuild() {
+        ProductSuggester suggester = new ProductSuggester(productRepository, popularity, 100);
+
+        assertThat(suggester.suggest("any", 10)).isEmpty();
+    }
+
+    private static Product product(String name, String sku) {
+        return Product.create(name, null, sku, Money.of(BigDecimal.TEN), 1, null);
+    }
+}
@@ -0,0 +1,84 @@
+package com.ecommerce.product.interfaces.rest;
+
+import com.ecommerce.product.application.dto.ProductDto;
+import com.ecommerce.product.application.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ProductControllerCachingTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2026-03-01T10:15:30.123456Z");
+
+    private final ProductService productService = mock(ProductService.class);
+    private final ProductHttpCaching httpCaching = new ProductHttpCaching(Duration.ofSeconds(30));
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new ProductController(productService, httpCaching))
+            .build();
+
+    private final UUID id = UUID.randomUUID();
+
+    @Test
+    void shouldAnswerMatchingRevalidationFromCachedProduct() throws Exception {
+        // Given
+        when(productService.getProduct(id)).thenReturn(product(5));
+        String eTag = httpCaching.productETag(UPDATED_AT, 5);
+
+        // When & Then
+        mockMvc.perform(get("/api/products/{id}", id).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, public"))
+                .andExpect(content().string(""));
+        verify(productService, times(1)).getProduct(id);
+    }
+
+    @Test
+    void shouldServeChangedProductWithNewETag() throws Exception {
+        // Given: stock moved since the client's copy
+        when(productService.getProduct(id)).thenReturn(product(4));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, httpCaching.productETag(UPDATED_AT, 5)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, httpCaching.productETag(UPDATED_AT, 4)))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(ProductHttpCaching.SURROGATE_KEY, "product-" + id))
+                .andExpect(content().string(containsString(id.toString())));
+    }
+
+    @Test
+    void shouldIgnoreIfModifiedSince() throws Exception {
+        // Given: slot reservations change stock without moving updatedAt
+        when(productService.getProduct(id)).thenReturn(product(3));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/{id}", id)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, "Sun, 01 Mar 2026 11:00:00 GMT"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+    }
+
+    private ProductDto product(int stock) {
+        return new ProductDto(id, "Lamp", "Desk lamp", "LAMP-1", BigDecimal.TEN, "USD", stock, null,
+                "ACTIVE", true, UPDATED_AT.minus(1, ChronoUnit.DAYS), UPDATED_AT);
+    }
+}
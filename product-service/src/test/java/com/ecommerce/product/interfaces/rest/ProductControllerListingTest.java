@@ -0,0 +1,120 @@
+package com.ecommerce.product.interfaces.rest;
+
+import com.ecommerce.product.application.dto.ProductDto;
+import com.ecommerce.product.application.dto.ProductSummaryDto;
+import com.ecommerce.product.application.service.ProductService;
+import com.ecommerce.product.infrastructure.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ProductControllerListingTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final String DESCRIPTION = "d".repeat(2_000);
+
+    private final ProductService productService = mock(ProductService.class);
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new ProductController(productService, new ProductHttpCaching(Duration.ofSeconds(30))))
+            .setControllerAdvice(new SparseFieldsetAdvice(), new GlobalExceptionHandler())
+            .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+            .build();
+
+    private final List<ProductDto> products = IntStream.range(0, PAGE_SIZE)
+            .mapToObj(i -> new ProductDto(UUID.randomUUID(), "Product " + i, DESCRIPTION, "SKU-" + i,
+                    BigDecimal.valueOf(9.99), "USD", 5, null, "ACTIVE", true, Instant.EPOCH, Instant.EPOCH))
+            .toList();
+
+    @Test
+    void shouldRejectUnknownSparseFields() throws Exception {
+        // Given
+        givenListingPage();
+
+        // When & Then
+        mockMvc.perform(get("/api/products").param("fields", "name,description"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value(containsString("Fields must be among")));
+    }
+
+    @Test
+    void shouldWriteOnlyRequestedListingFields() throws Exception {
+        // Given
+        givenListingPage();
+
+        // When & Then: the ID is always kept
+        mockMvc.perform(get("/api/products").param("fields", "name,price"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").exists())
+                .andExpect(jsonPath("$.content[0].name").exists())
+                .andExpect(jsonPath("$.content[0].price").exists())
+                .andExpect(jsonPath("$.content[0].sku").doesNotExist())
+                .andExpect(jsonPath("$.content[0].description").doesNotExist());
+    }
+
+    @Test
+    void shouldWriteAndAllocateLessForSummariesThanFullProducts() throws Exception {
+        // Given: a page of 20 products with 2000-character descriptions
+        givenListingPage();
+        when(productService.getProducts(any())).thenReturn(products);
+        String ids = String.join(",", products.stream().map(product -> product.id().toString()).toList());
+
+        // When
+        Measurement full = measure(get("/api/products/batch").param("ids", ids));
+        Measurement summaries = measure(get("/api/products"));
+        Measurement sparse = measure(get("/api/products").param("fields", "name,price"));
+
+        // Then
+        assertThat(full.bytes()).isGreaterThan(5 * summaries.bytes());
+        assertThat(summaries.bytes()).isGreaterThan(sparse.bytes());
+        assertThat(full.allocatedBytes()).isGreaterThan(summaries.allocatedBytes());
+    }
+
+    private void givenListingPage() {
+        List<ProductSummaryDto> summaries = products.stream()
+                .map(product -> new ProductSummaryDto(product.id(), product.name(), product.sku(), product.price(),
+                        product.currency(), product.stockQuantity(), product.categoryId(), product.status(),
+                        product.available()))
+                .toList();
+        when(productService.getAllProducts(any()))
+                .thenReturn(new PageImpl<>(summaries, PageRequest.of(0, PAGE_SIZE), PAGE_SIZE));
+    }
+
+    private record Measurement(int bytes, long allocatedBytes) {}
+
+    // Response body size, and bytes allocated per request on this thread after warm-up
+    private Measurement measure(RequestBuilder request) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int bytes = 0;
+        for (int i = 0; i < 200; i++) {
+            bytes = mockMvc.perform(request).andReturn().getResponse().getContentAsByteArray().length;
+        }
+        int runs = 200;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < runs; i++) {
+            mockMvc.perform(request);
+        }
+        return new Measurement(bytes, (threads.getCurrentThreadAllocatedBytes() - before) / runs);
+    }
+}